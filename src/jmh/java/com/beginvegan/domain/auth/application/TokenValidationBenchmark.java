@@ -0,0 +1,65 @@
+package com.beginvegan.domain.auth.application;
+
+import com.beginvegan.global.config.security.OAuth2Config;
+import com.beginvegan.global.config.security.token.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Description : 요청당 토큰 검증 + 인증 정보 생성 처리량 - 기존 방식(요청마다 키 / 파서 생성, 두 번 파싱) vs 캐시된 파서로 한 번 파싱
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    private OAuth2Config oAuth2Config;
+    private CustomTokenProviderService customTokenProviderService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        oAuth2Config = new OAuth2Config();
+        oAuth2Config.getAuth().setTokenSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        oAuth2Config.getAuth().setAccessTokenExpirationMsec(3_600_000);
+        oAuth2Config.getAuth().setRefreshTokenExpirationMsec(7_200_000);
+
+        customTokenProviderService = new CustomTokenProviderService();
+        ReflectionTestUtils.setField(customTokenProviderService, "oAuth2Config", oAuth2Config);
+        ReflectionTestUtils.setField(customTokenProviderService, "customUserDetailsService", Mockito.mock(CustomUserDetailsService.class));
+        ReflectionTestUtils.setField(customTokenProviderService, "tokenDenyList", new TokenDenyList(oAuth2Config));
+        customTokenProviderService.init();
+
+        UserPrincipal userPrincipal = UserPrincipal.create(1L, "vegan@test.com", "ROLE_USER");
+        accessToken = customTokenProviderService.createToken(
+                new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities())).getAccessToken();
+    }
+
+    // 기존 필터 - validateToken과 getAuthenticationById가 각각 키를 만들고 토큰을 파싱
+    @Benchmark
+    public Long legacy() {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(oAuth2Config.getAuth().getTokenSecret()));
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+
+        Key userKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(oAuth2Config.getAuth().getTokenSecret()));
+        Claims claims = Jwts.parserBuilder().setSigningKey(userKey).build().parseClaimsJws(accessToken).getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken cachedParser() {
+        Claims claims = customTokenProviderService.parseValidClaims(accessToken);
+        return customTokenProviderService.getAuthentication(claims);
+    }
+}
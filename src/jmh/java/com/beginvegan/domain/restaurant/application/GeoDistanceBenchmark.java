@@ -0,0 +1,66 @@
+package com.beginvegan.domain.restaurant.application;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Description : 식당 목록 거리 계산 - 기존 calculateDistance vs 유저 삼각함수 / 식당 라디안을 미리 계산한 GeoDistanceCalculator
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoDistanceBenchmark {
+
+    private static final double USER_LATITUDE = 37.5665;
+    private static final double USER_LONGITUDE = 126.9780;
+
+    @Param({"10000"})
+    private int restaurantCount;
+
+    // 유저 주변으로 흩어진 범위 (도 단위) - 0.2도는 equirectangular 근사, 3도는 하버사인 계산
+    @Param({"0.2", "3"})
+    private double spread;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] latitudeRadians;
+    private double[] longitudeRadians;
+    private double[] cosLatitudes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[restaurantCount];
+        longitudes = new double[restaurantCount];
+        latitudeRadians = new double[restaurantCount];
+        longitudeRadians = new double[restaurantCount];
+        cosLatitudes = new double[restaurantCount];
+        for (int i = 0; i < restaurantCount; i++) {
+            latitudes[i] = USER_LATITUDE + (random.nextDouble() - 0.5) * spread;
+            longitudes[i] = USER_LONGITUDE + (random.nextDouble() - 0.5) * spread;
+            // 인덱스가 색인할 때 한 번만 계산하는 값
+            latitudeRadians[i] = Math.toRadians(latitudes[i]);
+            longitudeRadians[i] = Math.toRadians(longitudes[i]);
+            cosLatitudes[i] = Math.cos(latitudeRadians[i]);
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (int i = 0; i < restaurantCount; i++) {
+            blackhole.consume(LegacyDistance.calculateDistance(USER_LATITUDE, USER_LONGITUDE, latitudes[i], longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public void precomputed(Blackhole blackhole) {
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(USER_LATITUDE, USER_LONGITUDE);
+        for (int i = 0; i < restaurantCount; i++) {
+            blackhole.consume(geoDistanceCalculator.distance(latitudeRadians[i], longitudeRadians[i], cosLatitudes[i]));
+        }
+    }
+}
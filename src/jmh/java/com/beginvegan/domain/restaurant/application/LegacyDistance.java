@@ -0,0 +1,20 @@
+package com.beginvegan.domain.restaurant.application;
+
+// Description : 비교 기준 - GeoDistanceCalculator 도입 전 RestaurantService.calculateDistance (호출마다 유저 좌표 삼각함수 재계산)
+final class LegacyDistance {
+
+    private LegacyDistance() {
+    }
+
+    static double calculateDistance(double userLatitude, double userLongitude, double restaurantLatitude, double restaurantLongitude) {
+        double dLatitude = Math.toRadians(restaurantLatitude - userLatitude);
+        double dLongitude = Math.toRadians(restaurantLongitude - userLongitude);
+
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(userLatitude)) * Math.cos(Math.toRadians(restaurantLatitude))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return GeoDistanceCalculator.EARTH_RADIUS * c;
+    }
+}
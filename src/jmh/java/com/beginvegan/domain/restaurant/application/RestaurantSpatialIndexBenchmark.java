@@ -0,0 +1,73 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Description : 반경 조회 - 격자 인덱스 vs 기존 전체 식당 하버사인 계산 (10k / 100k / 1M개 식당)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantSpatialIndexBenchmark {
+
+    // 서울 시청
+    private static final double USER_LATITUDE = 37.5665;
+    private static final double USER_LONGITUDE = 126.9780;
+
+    @Param({"10000", "100000", "1000000"})
+    private int restaurantCount;
+
+    @Param({"5", "10"})
+    private double radiusKm;
+
+    private List<Restaurant> restaurants;
+    private RestaurantSpatialIndex restaurantSpatialIndex;
+
+    @Setup
+    public void setUp() {
+        // 국내 범위(위도 33~38.5, 경도 126~129.5)에 고르게 분포
+        Random random = new Random(42);
+        restaurants = new ArrayList<>(restaurantCount);
+        for (long id = 1; id <= restaurantCount; id++) {
+            restaurants.add(Restaurant.builder()
+                    .id(id)
+                    .latitude(33 + random.nextDouble() * 5.5)
+                    .longitude(126 + random.nextDouble() * 3.5)
+                    .build());
+        }
+
+        RestaurantRepository restaurantRepository = Mockito.mock(RestaurantRepository.class);
+        Mockito.when(restaurantRepository.findAll()).thenReturn(restaurants);
+        restaurantSpatialIndex = new RestaurantSpatialIndex(restaurantRepository, Mockito.mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(restaurantSpatialIndex, "cellSize", 0.05);
+        restaurantSpatialIndex.rebuild();
+    }
+
+    @Benchmark
+    public List<Long> spatialIndex() {
+        return restaurantSpatialIndex.findIdsWithinRadius(USER_LATITUDE, USER_LONGITUDE, radiusKm);
+    }
+
+    // 기존 findAroundRestaurant 방식 - 모든 식당에 대해 하버사인 계산
+    @Benchmark
+    public List<Long> fullScan() {
+        List<Long> ids = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            if (LegacyDistance.calculateDistance(USER_LATITUDE, USER_LONGITUDE, restaurant.getLatitude(), restaurant.getLongitude()) <= radiusKm) {
+                ids.add(restaurant.getId());
+            }
+        }
+        return ids;
+    }
+}
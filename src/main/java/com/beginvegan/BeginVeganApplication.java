@@ -12,7 +12,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @PropertySource(value = { "classpath:database/application-database.yml" }, factory = YamlPropertySourceFactory.class)
 @PropertySource(value = { "classpath:oauth2/application-oauth2.yml" }, factory = YamlPropertySourceFactory.class)
 @PropertySource(value = { "classpath:swagger/application-springdoc.yml" }, factory = YamlPropertySourceFactory.class)
-@PropertySource(value = { "classpath:firebase/application-firebase.yml" }, factory = YamlPropertySourceFactory.class)
+@PropertySource(value = { "classpath:firebase/application-firebase.yml" }, factory = YamlPropertySourceFactory.class, ignoreResourceNotFound = true)
 public class BeginVeganApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,21 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.domain.alarm.domain.Alarm;
+import com.beginvegan.domain.alarm.dto.AlarmRes;
+
+// Description : 알림 내역 저장 이벤트 - 커밋 후 접속 중인 수신 유저에게 실시간으로 전달
+public record AlarmCreatedEvent(Long userId, AlarmRes alarm) {
+
+    public static AlarmCreatedEvent of(Alarm alarm) {
+        AlarmRes alarmRes = AlarmRes.builder()
+                .alarmId(alarm.getId())
+                .createdDate(alarm.getCreatedDate())
+                .alarmType(alarm.getAlarmType())
+                .restaurantId(alarm.getRestaurantId())
+                .itemId(alarm.getItemId())
+                .content(alarm.getContent())
+                .isRead(alarm.getIsRead())
+                .build();
+        return new AlarmCreatedEvent(alarm.getUser().getId(), alarmRes);
+    }
+}
@@ -0,0 +1,76 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.domain.alarm.domain.repository.AlarmRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Description : 만료 알림 정리 - id 구간별 네이티브 DELETE를 짧은 트랜잭션으로 나눠 실행하고 구간 사이에 쉬어 가며 삭제
+// 알림 id는 생성 순서대로 증가하므로 [가장 오래된 id, 기준 시각 이전 마지막 id] 구간만 훑으면 됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmPurgeJob {
+
+    private final AlarmRepository alarmRepository;
+    private final AlarmUnreadCounter alarmUnreadCounter;
+
+    @Value("${alarm.purge.retention-days:31}")
+    private int retentionDays;
+
+    @Value("${alarm.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${alarm.purge.pause:100}")
+    private long pauseMillis;
+
+    // 매일 자정
+    @Scheduled(cron = "${alarm.purge.cron:0 0 0 * * ?}")
+    public void purge() {
+        LocalDateTime thresholdDate = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        Long minId = alarmRepository.findMinId();
+        Long lastId = alarmRepository.findLastIdCreatedBefore(thresholdDate);
+        if (minId == null || lastId == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long deleted = 0;
+        int chunks = 0;
+        for (long fromId = minId; fromId <= lastId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize, lastId + 1);
+            deleted += alarmRepository.deleteCreatedBeforeInRange(fromId, toId, thresholdDate);
+            chunks++;
+            log.debug("Alarm purge progress : {} / {} ids, {} deleted", toId - minId, lastId - minId + 1, deleted);
+
+            if (toId <= lastId && !pause()) {
+                alarmUnreadCounter.evictAll();
+                log.warn("Alarm purge interrupted : {} alarms deleted in {} chunks", deleted, chunks);
+                return;
+            }
+        }
+        if (deleted > 0) {
+            alarmUnreadCounter.evictAll();
+        }
+        log.info("Alarm purge finished : {} alarms deleted in {} chunks ({} ms)", deleted, chunks, System.currentTimeMillis() - startedAt);
+    }
+
+    // 구간 사이 대기 - 다른 트랜잭션이 락과 I/O를 쓸 수 있도록 양보
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -4,27 +4,29 @@ import com.beginvegan.domain.alarm.domain.Alarm;
 import com.beginvegan.domain.alarm.domain.AlarmType;
 import com.beginvegan.domain.alarm.domain.repository.AlarmRepository;
 import com.beginvegan.domain.alarm.dto.AlarmHistoryRes;
+import com.beginvegan.domain.alarm.dto.AlarmRes;
 import com.beginvegan.domain.alarm.dto.ReadAlarmRes;
 import com.beginvegan.domain.alarm.dto.UnreadAlarmRes;
-import com.beginvegan.domain.restaurant.domain.Restaurant;
-import com.beginvegan.domain.review.application.ReviewService;
-import com.beginvegan.domain.review.domain.Review;
+import com.beginvegan.domain.alarm.dto.UnreadCountRes;
 import com.beginvegan.domain.review.domain.repository.ReviewRepository;
 import com.beginvegan.domain.user.application.UserService;
 import com.beginvegan.domain.user.domain.User;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.Message;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -33,17 +35,20 @@ import java.util.stream.Collectors;
 public class AlarmService {
 
     private final AlarmRepository alarmRepository;
-    private final ReviewService reviewService;
+    private final ReviewRepository reviewRepository;
     private final UserService userService;
+    private final AlarmUnreadCounter alarmUnreadCounter;
 
-    // 확인 상태 변경
-    // TODO: 미확인 알림 전부 확인 처리
+    // 알림 내역 조회(deprecated)에서 응답하는 최신 알림 최대 개수
+    @Value("${alarm.history.max-size:100}")
+    private int historyMaxSize;
+
+    // 확인 상태 변경 - 미확인 알림 전부를 UPDATE 한 번으로 확인 처리
     @Transactional
     public ResponseEntity<?> updateIsRead(UserPrincipal userPrincipal) {
         User user = userService.validateUserById(userPrincipal.getId());
-        List<Alarm> unreadAlarms = alarmRepository.findByUserAndIsRead(user, false);
-
-        unreadAlarms.forEach(alarm -> alarm.updateIsRead(true));
+        alarmRepository.updateAllAsRead(user);
+        alarmUnreadCounter.reset(user.getId());
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -53,22 +58,20 @@ public class AlarmService {
         return ResponseEntity.ok(apiResponse);
     }
 
-    // 알림 내역 조회
+    // 알림 내역 조회 (deprecated - /api/v1/alarms/slice 사용)
+    // 전체 알림을 불러와 정렬하지 않고 키셋 쿼리로 최신 알림만 인덱스 순서대로 조회 - 이미 최신순이라 나눠 담기만 함
     @Transactional
     public ResponseEntity<?> getAlarmHistory(UserPrincipal userPrincipal) {
         User user = userService.validateUserById(userPrincipal.getId());
 
-        List<Alarm> alarms = alarmRepository.findByUser(user);
+        Cursor first = Cursor.decode(null);
+        List<Alarm> alarms = alarmRepository.findByUserAfterCursor(user, first.dateTime(), first.id(), PageRequest.of(0, historyMaxSize));
+        Map<Long, Long> restaurantIds = findRestaurantIds(alarms);
         // 미확인 알람
         List<UnreadAlarmRes> unreadAlarms = alarms.stream()
                 .filter(alarm -> !alarm.getIsRead())
                 .map(alarm -> {
-                    Long restaurantId = null;
-                    if (alarm.getAlarmType() == AlarmType.MAP) {
-                        Long reviewId = alarm.getItemId();
-                        Review review = reviewService.validateReviewById(reviewId);
-                        restaurantId = review.getRestaurant().getId();
-                    }
+                    Long restaurantId = findRestaurantId(alarm, restaurantIds);
                     return UnreadAlarmRes.builder()
                             .alarmId(alarm.getId())
                             .createdDate(alarm.getCreatedDate())
@@ -79,19 +82,13 @@ public class AlarmService {
                             .isRead(alarm.getIsRead())
                             .build();
                 })
-                .sorted(Comparator.comparing(UnreadAlarmRes::getCreatedDate).reversed())
                 .collect(Collectors.toList());
 
         // 확인 알람
         List<ReadAlarmRes> readAlarms = alarms.stream()
                 .filter(alarm -> alarm.getIsRead())
                 .map(alarm -> {
-                    Long restaurantId = null;
-                    if (alarm.getAlarmType() == AlarmType.MAP) {
-                        Long reviewId = alarm.getItemId();
-                        Review review = reviewService.validateReviewById(reviewId);
-                        restaurantId = review.getRestaurant().getId();
-                    }
+                    Long restaurantId = findRestaurantId(alarm, restaurantIds);
                     return ReadAlarmRes.builder()
                             .alarmId(alarm.getId())
                             .createdDate(alarm.getCreatedDate())
@@ -102,7 +99,6 @@ public class AlarmService {
                             .isRead(alarm.getIsRead())
                             .build();
                 })
-                .sorted(Comparator.comparing(ReadAlarmRes::getCreatedDate).reversed())
                 .collect(Collectors.toList());
 
         // 알림 읽음처리
@@ -121,11 +117,72 @@ public class AlarmService {
         return ResponseEntity.ok(apiResponse);
     }
 
-    // 알림 삭제(30일)
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
-    public void deleteOldAlarms() {
-        LocalDateTime date = LocalDate.now().minusDays(31).atStartOfDay();
-        alarmRepository.deleteByCreatedDateBefore(date);
+    // Description : 알림 내역 커서 조회 (최신순) - 읽음 처리는 하지 않음 (POST /api/v1/alarms로 일괄 처리)
+    public ResponseEntity<?> getAlarmHistoryByCursor(UserPrincipal userPrincipal, String cursor) {
+        User user = userService.validateUserById(userPrincipal.getId());
+        Cursor position = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Alarm> alarms = alarmRepository.findByUserAfterCursor(user, position.dateTime(), position.id(), PageRequest.of(0, 21));
+        Map<Long, Long> restaurantIds = findRestaurantIds(alarms);
+        CursorSlice<AlarmRes> alarmSlice = CursorSlice.of(alarms, 20, alarm -> Cursor.of(alarm.getCreatedDate(), alarm.getId()))
+                .map(alarm -> AlarmRes.builder()
+                        .alarmId(alarm.getId())
+                        .createdDate(alarm.getCreatedDate())
+                        .alarmType(alarm.getAlarmType())
+                        .restaurantId(findRestaurantId(alarm, restaurantIds))
+                        .itemId(alarm.getItemId())
+                        .content(alarm.getContent())
+                        .isRead(alarm.getIsRead())
+                        .build());
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(alarmSlice)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // Description : 미확인 알림 수 조회 (배지용) - 캐시에서 응답하고 읽음 처리는 하지 않음
+    public ResponseEntity<?> getUnreadCount(UserPrincipal userPrincipal) {
+        UnreadCountRes unreadCountRes = UnreadCountRes.builder()
+                .unreadCount(alarmUnreadCounter.getUnreadCount(userPrincipal.getId()))
+                .build();
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(unreadCountRes)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // MAP 알림은 리뷰가 작성된 식당으로 이동 - 알림에 저장된 식당 id 우선, 없으면(이전 알림) 일괄 조회 결과 사용
+    private Long findRestaurantId(Alarm alarm, Map<Long, Long> restaurantIds) {
+        if (alarm.getAlarmType() != AlarmType.MAP) {
+            return null;
+        }
+        if (alarm.getRestaurantId() != null) {
+            return alarm.getRestaurantId();
+        }
+        // 삭제된 리뷰는 null
+        return restaurantIds.get(alarm.getItemId());
+    }
+
+    // 식당 id가 저장되지 않은 MAP 알림의 리뷰 id -> 식당 id를 IN 쿼리 한 번으로 조회
+    private Map<Long, Long> findRestaurantIds(List<Alarm> alarms) {
+        Set<Long> reviewIds = alarms.stream()
+                .filter(alarm -> alarm.getAlarmType() == AlarmType.MAP && alarm.getRestaurantId() == null && alarm.getItemId() != null)
+                .map(Alarm::getItemId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> restaurantIds = new HashMap<>();
+        if (reviewIds.isEmpty()) {
+            return restaurantIds;
+        }
+        for (Object[] row : reviewRepository.findRestaurantIdsByIdIn(reviewIds)) {
+            restaurantIds.put((Long) row[0], (Long) row[1]);
+        }
+        return restaurantIds;
     }
 }
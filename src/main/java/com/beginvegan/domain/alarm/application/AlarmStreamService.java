@@ -0,0 +1,199 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.domain.alarm.dto.AlarmRes;
+import com.beginvegan.global.config.security.token.UserPrincipal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Description : 알림 실시간 스트림 (SSE) - 저장된 알림을 커밋 후 접속 중인 유저의 모든 연결로 전달
+// 연결은 서블릿 비동기 요청(SseEmitter)으로 유지하고, 전송은 소수의 공용 스레드가 구독자별 버퍼를 비우는 방식 (연결당 스레드를 점유하지 않음)
+@Slf4j
+@Service
+public class AlarmStreamService {
+
+    // 연결 유지 시간 - 만료되면 클라이언트가 재연결
+    @Value("${alarm.stream.timeout:1800000}")
+    private long timeoutMillis;
+
+    // 구독자별 전송 대기 버퍼 크기 - 가득 차면 느린 구독자로 보고 연결 종료 (재연결 후 /slice로 누락분 조회)
+    @Value("${alarm.stream.buffer-size:64}")
+    private int bufferSize;
+
+    // 평소 유지하는 전송 스레드 수
+    @Value("${alarm.stream.concurrency:2}")
+    private int concurrency;
+
+    // 최대 전송 스레드 수 - 응답이 멈춘 연결이 스레드를 잡고 있어도 다른 연결은 새 스레드로 전송
+    @Value("${alarm.stream.max-concurrency:32}")
+    private int maxConcurrency;
+
+    // 전송 하나가 이 시간보다 오래 걸리면 멈춘 연결로 보고 종료 (하트비트 주기마다 확인)
+    @Value("${alarm.stream.send-timeout:10000}")
+    private long sendTimeoutMillis;
+
+    // 유저 한 명이 동시에 유지할 수 있는 연결 수 - 넘으면 가장 오래된 연결을 종료
+    @Value("${alarm.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    // 유저 id -> 접속 중인 연결들 (여러 기기 동시 접속)
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        // 대기 큐 없이 빈 스레드가 없으면 최대 수까지 새로 생성, 한가한 스레드는 1분 뒤 정리
+        executor = new ThreadPoolExecutor(concurrency, Math.max(concurrency, maxConcurrency), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("alarm-stream-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // Description : 알림 스트림 구독
+    public SseEmitter subscribe(UserPrincipal userPrincipal) {
+        Long userId = userPrincipal.getId();
+        Subscriber subscriber = new Subscriber(userId, sequence.incrementAndGet(), new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        // 연결 수 제한 - 재연결하면서 정리되지 않은 이전 연결부터 종료
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            Set<Subscriber> current = userSubscribers == null ? ConcurrentHashMap.newKeySet() : userSubscribers;
+            while (current.size() >= Math.max(1, maxConnectionsPerUser)) {
+                Subscriber oldest = current.stream().min(Comparator.comparingLong(other -> other.sequence)).orElseThrow();
+                current.remove(oldest);
+                evicted.add(oldest);
+            }
+            current.add(subscriber);
+            return current;
+        });
+        evicted.forEach(oldest -> oldest.emitter.complete());
+
+        // 연결 직후 이벤트를 하나 보내 응답 헤더를 바로 내려보냄 (프록시 버퍼링 / 첫 이벤트 전 타임아웃 방지)
+        offer(subscriber, SseEmitter.event().name("connect").data("connected"));
+        return subscriber.emitter;
+    }
+
+    // 알림 내역이 커밋된 뒤에만 전달 (롤백된 알림은 보내지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(AlarmCreatedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+        AlarmRes alarm = event.alarm();
+        for (Subscriber subscriber : userSubscribers) {
+            offer(subscriber, SseEmitter.event().id(String.valueOf(alarm.getAlarmId())).name("alarm").data(alarm));
+        }
+    }
+
+    // 하트비트 - 유휴 연결이 프록시 / 로드밸런서에서 끊기지 않도록 주석 이벤트 전송, 끊긴 연결은 전송 실패로 정리
+    @Scheduled(fixedDelayString = "${alarm.stream.heartbeat:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                long sendStartedAt = subscriber.sendStartedAt;
+                if (sendStartedAt > 0 && now - sendStartedAt > sendTimeoutMillis) {
+                    // 전송이 멈춘 연결 - 응답을 종료하면 막혀 있던 쓰기가 실패하면서 전송 스레드도 풀려남
+                    log.warn("Alarm stream send timed out, closing subscriber of user {}", subscriber.userId);
+                    remove(subscriber);
+                    subscriber.emitter.completeWithError(new TimeoutException("Alarm stream send timed out"));
+                } else if (subscriber.buffer.isEmpty()) {
+                    offer(subscriber, SseEmitter.event().comment("heartbeat"));
+                } else {
+                    // 보낼 이벤트가 쌓여 있으면 그 전송이 하트비트 역할을 대신함 - 스레드가 부족해 배정되지 못했다면 다시 배정
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("Alarm stream buffer full, closing subscriber of user {}", subscriber.userId);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    // 전송 중인 스레드가 없을 때만 하나를 배정 - 한 연결에는 항상 한 스레드만 순서대로 전송
+    // 스레드가 모두 사용 중이면 이벤트는 버퍼에 남겨 두고 다음 하트비트 때 다시 배정
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.sendStartedAt = System.currentTimeMillis();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트 연결 종료 - 요청 정리는 서블릿 컨테이너가 처리
+                    remove(subscriber);
+                    subscriber.buffer.clear();
+                    return;
+                } finally {
+                    subscriber.sendStartedAt = 0;
+                }
+            }
+            subscriber.draining.set(false);
+            // 플래그를 내린 직후 들어온 이벤트는 여기서 이어서 처리
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final long sequence; // 연결 순서 - 연결 수 제한 시 가장 오래된 연결 선택
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long userId, long sequence, SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> buffer) {
+            this.userId = userId;
+            this.sequence = sequence;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.domain.alarm.domain.repository.AlarmRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Description : 유저별 미확인 알림 수 캐시 - 처음 조회할 때 DB에서 세고, 이후에는 알림 저장 / 일괄 읽음 처리가 커밋될 때 함께 갱신
+// 캐시 갱신은 커밋 후에만 반영하고, 동시 갱신으로 생길 수 있는 오차는 ttl이 지나면 DB 값으로 다시 맞춤
+@Component
+@RequiredArgsConstructor
+public class AlarmUnreadCounter {
+
+    private final AlarmRepository alarmRepository;
+
+    @Value("${alarm.unread-count.cache-size:100000}")
+    private int cacheSize;
+
+    @Value("${alarm.unread-count.ttl:300000}")
+    private long ttlMillis;
+
+    // 유저 id -> 미확인 알림 수
+    private final Map<Long, Count> counts = new ConcurrentHashMap<>();
+
+    public long getUnreadCount(Long userId) {
+        Count count = counts.get(userId);
+        if (count == null || count.isExpired(ttlMillis)) {
+            count = new Count(alarmRepository.countUnreadByUserId(userId), System.currentTimeMillis());
+            // 캐시가 가득 차면 비우고 다시 채움
+            if (counts.size() >= cacheSize) {
+                counts.clear();
+            }
+            counts.put(userId, count);
+        }
+        return count.value;
+    }
+
+    // 알림 내역 저장 커밋 후 +1 (캐시에 없는 유저는 다음 조회 때 DB에서 셈)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void increment(AlarmCreatedEvent event) {
+        counts.computeIfPresent(event.userId(), (key, count) -> new Count(count.value + 1, count.loadedAt));
+    }
+
+    // 일괄 읽음 처리 커밋 후 0
+    public void reset(Long userId) {
+        afterCommit(() -> counts.put(userId, new Count(0, System.currentTimeMillis())));
+    }
+
+    // 공지 일괄 저장 / 만료 알림 정리처럼 여러 유저의 알림이 한 번에 바뀐 경우 - 커밋 후 전체 무효화
+    public void evictAll() {
+        afterCommit(counts::clear);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Count(long value, long loadedAt) {
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
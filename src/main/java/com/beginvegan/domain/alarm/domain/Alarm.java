@@ -11,6 +11,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_alarm_user_read_created", columnList = "user_id, isRead, createdDate"),
+        @Index(name = "idx_alarm_user_created", columnList = "user_id, createdDate, id"),
+        @Index(name = "idx_alarm_created_date", columnList = "createdDate")
+})
 public class Alarm extends BaseEntity {
 
     @Id
@@ -22,6 +27,8 @@ public class Alarm extends BaseEntity {
 
     private Long itemId; // 알람 타입에 따라 review의 id거나 magazine id
 
+    private Long restaurantId; // MAP 알림의 이동 대상 식당 - 알림 생성 시 저장 (리뷰가 삭제되어도 유지)
+
     private String content;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,10 +38,11 @@ public class Alarm extends BaseEntity {
     private Boolean isRead; // 확인여부
 
     @Builder
-    public Alarm(Long id, AlarmType alarmType, Long itemId, String content, User user) {
+    public Alarm(Long id, AlarmType alarmType, Long itemId, Long restaurantId, String content, User user) {
         this.id = id;
         this.alarmType = alarmType;
         this.itemId = itemId;
+        this.restaurantId = restaurantId;
         this.content = content;
         this.user = user;
         this.isRead = false;
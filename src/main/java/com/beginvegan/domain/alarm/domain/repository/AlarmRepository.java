@@ -2,18 +2,53 @@ package com.beginvegan.domain.alarm.domain.repository;
 
 import com.beginvegan.domain.alarm.domain.Alarm;
 import com.beginvegan.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
-    List<Alarm> findByUser(User user);
-
     List<Alarm> findByUserAndIsRead(User user, boolean b);
 
-    void deleteByCreatedDateBefore(LocalDateTime thresholdDate);
+    // 키셋 페이징 - 커서(createdDate, id) 이후의 알림을 (user_id, created_date, id) 인덱스 순서로 조회
+    @Query("SELECT a FROM Alarm a WHERE a.user = :user " +
+            "AND (a.createdDate < :cursorDate OR (a.createdDate = :cursorDate AND a.id < :cursorId)) " +
+            "ORDER BY a.createdDate DESC, a.id DESC")
+    List<Alarm> findByUserAfterCursor(User user, LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // 미확인 알림 수 - (user_id, is_read, created_date) 인덱스만으로 계산
+    @Query("SELECT COUNT(a) FROM Alarm a WHERE a.user.id = :userId AND a.isRead = false")
+    long countUnreadByUserId(Long userId);
+
+    // 미확인 알림 일괄 읽음 처리 - (user_id, is_read, created_date) 인덱스로 미확인 알림만 갱신
+    @Modifying
+    @Query("UPDATE Alarm a SET a.isRead = true WHERE a.user = :user AND a.isRead = false")
+    int updateAllAsRead(User user);
+
+    // 만료 알림 정리 범위 - 가장 오래된 알림 id (PK 인덱스)
+    @Query(value = "SELECT MIN(id) FROM alarm", nativeQuery = true)
+    Long findMinId();
+
+    // 만료 알림 정리 범위 - 기준 시각 이전에 생성된 마지막 알림 id (created_date 인덱스를 역순으로 한 건만 조회)
+    @Query(value = "SELECT id FROM alarm WHERE created_date < :thresholdDate ORDER BY created_date DESC, id DESC LIMIT 1", nativeQuery = true)
+    Long findLastIdCreatedBefore(LocalDateTime thresholdDate);
+
+    // 만료 알림 정리 - id 구간 [fromId, toId) 안의 만료 알림만 한 번의 DELETE로 삭제 (구간마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM alarm WHERE id >= :fromId AND id < :toId AND created_date < :thresholdDate", nativeQuery = true)
+    int deleteCreatedBeforeInRange(Long fromId, Long toId, LocalDateTime thresholdDate);
+
+    // 공지 - 토큰이 있는 모든 유저의 알림 내역을 한 번의 INSERT ... SELECT로 생성
+    @Modifying
+    @Query(value = "INSERT INTO alarm (alarm_type, content, user_id, is_read, created_date, modified_date, status) " +
+            "SELECT :alarmType, :content, u.id, false, :now, :now, 'ACTIVE' " +
+            "FROM user u WHERE u.fcm_token IS NOT NULL AND u.status = 'ACTIVE'", nativeQuery = true)
+    int insertAnnouncement(String alarmType, String content, LocalDateTime now);
 }
@@ -0,0 +1,13 @@
+package com.beginvegan.domain.alarm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadCountRes {
+
+    @Schema(type = "Long", example = "3", description = "미확인 알림의 수입니다.")
+    public Long unreadCount;
+}
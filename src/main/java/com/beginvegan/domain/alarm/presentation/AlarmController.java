@@ -1,9 +1,13 @@
 package com.beginvegan.domain.alarm.presentation;
 
 import com.beginvegan.domain.alarm.application.AlarmService;
+import com.beginvegan.domain.alarm.application.AlarmStreamService;
 import com.beginvegan.domain.alarm.dto.AlarmHistoryRes;
+import com.beginvegan.domain.alarm.dto.AlarmRes;
+import com.beginvegan.domain.alarm.dto.UnreadCountRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import com.beginvegan.global.payload.Message;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,11 +18,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Alarms", description = "Alarms API")
 @RequiredArgsConstructor
@@ -27,13 +34,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class AlarmController {
 
     private final AlarmService alarmService;
+    private final AlarmStreamService alarmStreamService;
 
     // Description: 알림
-    @Operation(summary = "유저 알림 내역 조회", description = "유저의 알림 내역을 조회합니다.")
+    @Operation(summary = "유저 알림 내역 조회", description = "유저의 최신 알림 내역(기본 100개)을 조회하고 읽음 처리합니다. 더 이상 사용하지 않는 API입니다. 알림 내역은 /api/v1/alarms/slice, 읽음 처리는 POST /api/v1/alarms를 사용해주세요.", deprecated = true)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = AlarmHistoryRes.class) ) } ),
             @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
     })
+    @Deprecated
     @GetMapping("")
     public ResponseEntity<?> getAlarmHistory(
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal
@@ -41,6 +50,43 @@ public class AlarmController {
         return alarmService.getAlarmHistory(userPrincipal);
     }
 
+    @Operation(summary = "유저 알림 내역 조회 (커서)", description = "유저의 알림 내역을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요. 읽음 처리는 하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class) ) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<?> getAlarmHistoryByCursor(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return alarmService.getAlarmHistoryByCursor(userPrincipal, cursor);
+    }
+
+    @Operation(summary = "미확인 알림 수 조회", description = "배지 표시용 미확인 알림 수를 조회합니다. 읽음 처리는 하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = UnreadCountRes.class) ) } ),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    })
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal
+    ) {
+        return alarmService.getUnreadCount(userPrincipal);
+    }
+
+    @Operation(summary = "알림 실시간 구독", description = "새 알림을 Server-Sent Events로 실시간 수신합니다. 'alarm' 이벤트의 data는 알림 내역 조회와 같은 형식이며, 연결이 끊기면 재연결 후 /slice로 누락된 알림을 조회해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공", content = { @Content(mediaType = "text/event-stream", schema = @Schema(implementation = AlarmRes.class) ) } ),
+            @ApiResponse(responseCode = "400", description = "구독 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAlarms(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal
+    ) {
+        return alarmStreamService.subscribe(userPrincipal);
+    }
+
     @Operation(summary = "미확인 알림 상태 변경", description = "유저의 미확인 알림을 모두 읽음 처리합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "변경 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = Message.class) ) } ),
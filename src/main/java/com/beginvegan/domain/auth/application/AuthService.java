@@ -21,7 +21,6 @@ import com.beginvegan.global.payload.ApiResponse;
 import com.beginvegan.global.payload.ErrorCode;
 import com.beginvegan.global.payload.Message;
 import com.beginvegan.domain.auth.domain.repository.TokenRepository;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -45,6 +44,7 @@ public class AuthService {
     private final S3Uploader s3Uploader;
 
     private final TokenRepository tokenRepository;
+    private final TokenDenyList tokenDenyList;
     private final UserRepository userRepository;
     private final UserService userService;
     private final FcmService fcmService;
@@ -92,6 +92,8 @@ public class AuthService {
                 .orElseThrow(InvalidTokenException::new);
 
         tokenRepository.delete(token);
+        // 이미 발급된 액세스 토큰도 바로 사용할 수 없도록 무효화
+        tokenDenyList.revoke(userPrincipal.getId());
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -103,7 +105,7 @@ public class AuthService {
 
     // 추가 정보 입력
     @Transactional
-    public ResponseEntity<?> addSignUpUserInfo(UserPrincipal userPrincipal, AddUserInfoReq addUserInfoReq, Boolean isDefaultImage, MultipartFile file) throws FirebaseMessagingException {
+    public ResponseEntity<?> addSignUpUserInfo(UserPrincipal userPrincipal, AddUserInfoReq addUserInfoReq, Boolean isDefaultImage, MultipartFile file) {
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new DefaultException(ErrorCode.INVALID_CHECK, "유저 정보가 유효하지 않습니다."));
 
@@ -122,7 +124,7 @@ public class AuthService {
         // 웰컴 메세지 전송
         String msg = "비긴, 비건에 오신 것을 환영해요. 비거너의 여정으로 함께 떠나요!";
         FcmSendDto fcmSendDto = fcmService.makeFcmSendDto(user.getFcmToken(), AlarmType.INFORMATION, null, msg, null, null);
-        fcmService.sendMessageTo(fcmSendDto);
+        fcmService.sendMessageTo(user, fcmSendDto);
 
         return ResponseEntity.ok(apiResponse);
     }
@@ -226,7 +228,7 @@ public class AuthService {
     }
 
     // Description : [회원 가입] 프로필 최초 설정 시 포인트 지급
-    private void rewardInitialProfileImage(User user, Boolean isDefaultImage) throws FirebaseMessagingException {
+    private void rewardInitialProfileImage(User user, Boolean isDefaultImage) {
         if (!isDefaultImage) {
             user.updatePoint(1);
             userService.checkUserLevel(user);
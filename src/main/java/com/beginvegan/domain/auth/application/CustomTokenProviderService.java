@@ -6,10 +6,12 @@ import java.util.Date;
 import com.beginvegan.global.config.security.OAuth2Config;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.domain.auth.dto.TokenMapping;
+import com.beginvegan.domain.user.domain.Role;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +19,7 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -26,22 +29,40 @@ public class CustomTokenProviderService {
     @Autowired
     private OAuth2Config oAuth2Config;
 
+    // 액세스 토큰에 UserPrincipal을 만드는 데 필요한 정보를 담아 요청마다 유저를 조회하지 않음
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLE_CLAIM = "role";
+    // JWT iat는 초 단위라 로그아웃 직후 같은 초에 발급된 토큰과 구분할 수 없으므로 발급 시각을 밀리초로 따로 담음
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
+    // 서명 키와 파서는 한 번만 만들어 재사용 (JwtParser는 불변이라 여러 스레드에서 공유 가능)
+    private Key key;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(oAuth2Config.getAuth().getTokenSecret()));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
     public TokenMapping refreshToken(Authentication authentication, String refreshToken) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Date now = new Date();
 
         Date accessTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getAccessTokenExpirationMsec());
 
-        String secretKey = oAuth2Config.getAuth().getTokenSecret();
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
         String accessToken = Jwts.builder()
                                 .setSubject(Long.toString(userPrincipal.getId()))
-                                .setIssuedAt(new Date())
+                                .claim(EMAIL_CLAIM, userPrincipal.getEmail())
+                                .claim(ROLE_CLAIM, getRole(userPrincipal))
+                                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
+                                .setIssuedAt(now)
                                 .setExpiration(accessTokenExpiresIn)
                                 .signWith(key, SignatureAlgorithm.HS512)
                                 .compact();
@@ -61,14 +82,12 @@ public class CustomTokenProviderService {
         Date accessTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getAccessTokenExpirationMsec());
         Date refreshTokenExpiresIn = new Date(now.getTime() + oAuth2Config.getAuth().getRefreshTokenExpirationMsec());
 
-        String secretKey = oAuth2Config.getAuth().getTokenSecret();
-
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
         String accessToken = Jwts.builder()
                                 .setSubject(Long.toString(userPrincipal.getId()))
-                                .setIssuedAt(new Date())
+                                .claim(EMAIL_CLAIM, userPrincipal.getEmail())
+                                .claim(ROLE_CLAIM, getRole(userPrincipal))
+                                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
+                                .setIssuedAt(now)
                                 .setExpiration(accessTokenExpiresIn)
                                 .signWith(key, SignatureAlgorithm.HS512)
                                 .compact();
@@ -86,22 +105,48 @@ public class CustomTokenProviderService {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(oAuth2Config.getAuth().getTokenSecret())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
         return Long.parseLong(claims.getSubject());
     }
 
     public UsernamePasswordAuthenticationToken getAuthenticationById(String token){
-        Long userId = getUserIdFromToken(token);
+        return getAuthenticationById(getUserIdFromToken(token));
+    }
+
+    private UsernamePasswordAuthenticationToken getAuthenticationById(Long userId){
         UserDetails userDetails = customUserDetailsService.loadUserById(userId);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         return authentication;
     }
 
+    // Description : 검증을 마친 액세스 토큰의 claim만으로 인증 정보 생성 (DB 조회 없음) - 로그아웃으로 무효화된 토큰은 null
+    public UsernamePasswordAuthenticationToken getAuthentication(Claims claims) {
+        Long userId = Long.parseLong(claims.getSubject());
+        if (tokenDenyList.isRevoked(userId, getIssuedAtMillis(claims))) {
+            return null;
+        }
+
+        String email = claims.get(EMAIL_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        // claim이 없는 이전 형식의 토큰은 유저를 조회해 생성
+        if (email == null || role == null) {
+            return getAuthenticationById(userId);
+        }
+        UserPrincipal userPrincipal = UserPrincipal.create(userId, email, role);
+        return new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+    }
+
+    // 밀리초 claim이 없는 이전 형식의 토큰은 초 단위 iat 사용 (초 미만을 버린 값이라 같은 초의 무효화에도 거부됨)
+    private long getIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? Long.MIN_VALUE : issuedAt.getTime();
+    }
+
     public UsernamePasswordAuthenticationToken getAuthenticationByEmail(String email){
         UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -110,18 +155,28 @@ public class CustomTokenProviderService {
 
     public Long getExpiration(String token) {
         // accessToken 남은 유효시간
-        Date expiration = Jwts.parserBuilder().setSigningKey(oAuth2Config.getAuth().getTokenSecret()).build().parseClaimsJws(token).getBody().getExpiration();
+        Date expiration = jwtParser.parseClaimsJws(token).getBody().getExpiration();
         // 현재 시간
         Long now = new Date().getTime();
         //시간 계산
         return (expiration.getTime() - now);
     }
 
+    private String getRole(UserPrincipal userPrincipal) {
+        return userPrincipal.getAuthorities().stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse(Role.USER.getValue());
+    }
+
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    // Description : 토큰을 한 번만 파싱해 검증하고 claim 반환 - 유효하지 않으면 null
+    public Claims parseValidClaims(String token) {
         try {
-            //log.info("bearerToken = {} \n oAuth2Config.getAuth()={}", token, oAuth2Config.getAuth().getTokenSecret());
-            Jwts.parserBuilder().setSigningKey(oAuth2Config.getAuth().getTokenSecret()).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("잘못된 JWT 서명입니다.");
         } catch (MalformedJwtException ex) {
@@ -133,7 +188,7 @@ public class CustomTokenProviderService {
         } catch (IllegalArgumentException ex) {
             log.error("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
 }
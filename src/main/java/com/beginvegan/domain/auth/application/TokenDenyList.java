@@ -0,0 +1,40 @@
+package com.beginvegan.domain.auth.application;
+
+import com.beginvegan.global.config.security.OAuth2Config;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Description : 액세스 토큰 무효화 목록 - 로그아웃한 유저의 그 시점까지 발급된 액세스 토큰을 거부 (DB 조회 없이 메모리에서 확인)
+// 액세스 토큰 유효시간이 지나면 해당 토큰은 어차피 만료되므로 항목도 제거
+@Component
+@RequiredArgsConstructor
+public class TokenDenyList {
+
+    private final OAuth2Config oAuth2Config;
+
+    // 유저 id -> 무효화 시각 (밀리초 단위)
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public void revoke(Long userId) {
+        revokedAt.put(userId, System.currentTimeMillis());
+    }
+
+    // 무효화 시각보다 먼저 발급된 토큰만 거부 - 같은 초에 다시 로그인해 발급된 토큰은 통과
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        Long revokedMillis = revokedAt.get(userId);
+        if (revokedMillis == null) {
+            return false;
+        }
+        return issuedAtMillis < revokedMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.deny-list-cleanup-delay:600000}")
+    public void removeExpired() {
+        long expiredBefore = System.currentTimeMillis() - oAuth2Config.getAuth().getAccessTokenExpirationMsec();
+        revokedAt.values().removeIf(revokedMillis -> revokedMillis < expiredBefore);
+    }
+}
@@ -1,7 +1,6 @@
 package com.beginvegan.domain.auth.presentation;
 
 
-import com.google.firebase.messaging.FirebaseMessagingException;
 import jakarta.validation.Valid;
 import com.beginvegan.domain.auth.dto.*;
 import com.beginvegan.global.payload.ErrorResponse;
@@ -56,7 +55,7 @@ public class AuthController {
             @Parameter(description = "AddUserInfoReq Schema를 확인해주세요.", required = true) @Valid @RequestPart AddUserInfoReq addUserInfoReq,
             @Parameter(description = "프로필 등록 시 기본 이미지 여부를 입력해주세요.", required = true) @RequestPart Boolean isDefaultImage,
             @Parameter(description = "form-data 형식의 Multipart-file을 입력해주세요.") @RequestPart MultipartFile file
-    ) throws FirebaseMessagingException {
+    ) {
         return authService.addSignUpUserInfo(userPrincipal, addUserInfoReq, isDefaultImage, file);
     }
 
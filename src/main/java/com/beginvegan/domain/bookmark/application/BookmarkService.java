@@ -6,12 +6,16 @@ import com.beginvegan.domain.bookmark.domain.repository.ContentType;
 import com.beginvegan.domain.bookmark.dto.request.BookmarkReq;
 import com.beginvegan.domain.food.application.FoodService;
 import com.beginvegan.domain.food.domain.Food;
+import com.beginvegan.domain.food.domain.repository.FoodRepository;
 import com.beginvegan.domain.food.dto.response.BookmarkFoodRes;
 import com.beginvegan.domain.magazine.application.MagazineService;
 import com.beginvegan.domain.magazine.domain.Magazine;
+import com.beginvegan.domain.magazine.domain.repository.MagazineRepository;
 import com.beginvegan.domain.magazine.dto.response.BookmarkMagazineRes;
+import com.beginvegan.domain.restaurant.application.GeoDistanceCalculator;
 import com.beginvegan.domain.restaurant.application.RestaurantService;
 import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
 import com.beginvegan.domain.restaurant.dto.request.LocationReq;
 import com.beginvegan.domain.restaurant.dto.response.BookmarkRestaurantRes;
 import com.beginvegan.domain.user.application.UserService;
@@ -20,6 +24,8 @@ import com.beginvegan.domain.user.domain.repository.UserRepository;
 import com.beginvegan.global.DefaultAssert;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.Message;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -31,7 +37,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +48,9 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final FoodRepository foodRepository;
+    private final MagazineRepository magazineRepository;
 
     private final RestaurantService restaurantService;
     private final FoodService foodService;
@@ -60,6 +71,10 @@ public class BookmarkService {
                 .contentType(bookmarkReq.getContentType())
                 .build();
         bookmarkRepository.save(bookmark);
+        // 식당 스크랩 수 증가
+        if (bookmark.getContentType() == ContentType.RESTAURANT) {
+            restaurantRepository.updateBookmarkCount(bookmark.getContentId(), 1);
+        }
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -79,6 +94,10 @@ public class BookmarkService {
 
         Bookmark bookmark = findBookmark.get();
         bookmarkRepository.delete(bookmark);
+        // 식당 스크랩 수 감소
+        if (bookmark.getContentType() == ContentType.RESTAURANT) {
+            restaurantRepository.updateBookmarkCount(bookmark.getContentId(), -1);
+        }
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -99,15 +118,13 @@ public class BookmarkService {
         List<BookmarkRestaurantRes> bookmarkRestaurantResList = new ArrayList<>();
         double userLatitude = Double.parseDouble(latitude);
         double userLongitude = Double.parseDouble(longitude);
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(userLatitude, userLongitude);
 
         for (Bookmark bookmark : bookmarkPage) {
             Long restaurantId = bookmark.getContentId();
             Restaurant restaurant = restaurantService.validateRestaurantById(restaurantId);
 
-            double restaurantLatitude = Double.parseDouble(restaurant.getLatitude());
-            double restaurantLongitude = Double.parseDouble(restaurant.getLongitude());
-
-            double distance = restaurantService.calculateDistance(userLatitude, userLongitude, restaurantLatitude, restaurantLongitude);
+            double distance = geoDistanceCalculator.distance(restaurant.getLatitude(), restaurant.getLongitude());
 
             BookmarkRestaurantRes bookmarkRestaurantRes = BookmarkRestaurantRes.builder()
                     .restaurantId(bookmark.getContentId())
@@ -191,4 +208,114 @@ public class BookmarkService {
 
         return ResponseEntity.ok(apiResponse);
     }
+
+    // Description : 북마크한 식당 목록 커서 조회 (최신순) - offset / count 없이 커서 위치부터 15개
+    public ResponseEntity<?> findBookmarkRestaurantByCursor(UserPrincipal userPrincipal, String cursor, String latitude, String longitude) {
+
+        User user = userService.validateUserById(userPrincipal.getId());
+        CursorSlice<Bookmark> bookmarkSlice = findBookmarkSlice(user, ContentType.RESTAURANT, cursor);
+
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(contentIdsOf(bookmarkSlice)).stream()
+                .collect(Collectors.toMap(Restaurant::getId, restaurant -> restaurant));
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(Double.parseDouble(latitude), Double.parseDouble(longitude));
+
+        List<BookmarkRestaurantRes> bookmarkRestaurantResList = new ArrayList<>();
+        for (Bookmark bookmark : bookmarkSlice.contents()) {
+            Restaurant restaurant = restaurantMap.get(bookmark.getContentId());
+            if (restaurant == null) {
+                continue;
+            }
+            BookmarkRestaurantRes bookmarkRestaurantRes = BookmarkRestaurantRes.builder()
+                    .restaurantId(bookmark.getContentId())
+                    .thumbnail(restaurant.getThumbnail())
+                    .name(restaurant.getName())
+                    .restaurantType(restaurant.getRestaurantType())
+                    .rate(restaurant.getRate())
+                    .distance(geoDistanceCalculator.distance(restaurant.getLatitude(), restaurant.getLongitude()))
+                    .build();
+            bookmarkRestaurantResList.add(bookmarkRestaurantRes);
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(new CursorSlice<>(bookmarkRestaurantResList, bookmarkSlice.nextCursor(), bookmarkSlice.hasNext()))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // Description : 북마크한 레시피 목록 커서 조회 (최신순)
+    public ResponseEntity<?> findBookmarkRecipeByCursor(UserPrincipal userPrincipal, String cursor) {
+
+        User user = userService.validateUserById(userPrincipal.getId());
+        CursorSlice<Bookmark> bookmarkSlice = findBookmarkSlice(user, ContentType.RECIPE, cursor);
+
+        Map<Long, Food> foodMap = foodRepository.findAllById(contentIdsOf(bookmarkSlice)).stream()
+                .collect(Collectors.toMap(Food::getId, food -> food));
+
+        List<BookmarkFoodRes> bookmarkFoodResList = new ArrayList<>();
+        for (Bookmark bookmark : bookmarkSlice.contents()) {
+            Food food = foodMap.get(bookmark.getContentId());
+            if (food == null) {
+                continue;
+            }
+            BookmarkFoodRes bookmarkFoodRes = BookmarkFoodRes.builder()
+                    .foodId(food.getId())
+                    .name(food.getName())
+                    .veganType(food.getVeganType())
+                    .build();
+            bookmarkFoodResList.add(bookmarkFoodRes);
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(new CursorSlice<>(bookmarkFoodResList, bookmarkSlice.nextCursor(), bookmarkSlice.hasNext()))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // Description : 북마크한 매거진 목록 커서 조회 (최신순)
+    public ResponseEntity<?> findBookmarkMagazineByCursor(UserPrincipal userPrincipal, String cursor) {
+
+        User user = userService.validateUserById(userPrincipal.getId());
+        CursorSlice<Bookmark> bookmarkSlice = findBookmarkSlice(user, ContentType.MAGAZINE, cursor);
+
+        Map<Long, Magazine> magazineMap = magazineRepository.findAllById(contentIdsOf(bookmarkSlice)).stream()
+                .collect(Collectors.toMap(Magazine::getId, magazine -> magazine));
+
+        List<BookmarkMagazineRes> bookmarkMagazineResList = new ArrayList<>();
+        for (Bookmark bookmark : bookmarkSlice.contents()) {
+            Magazine magazine = magazineMap.get(bookmark.getContentId());
+            if (magazine == null) {
+                continue;
+            }
+            BookmarkMagazineRes bookmarkMagazineRes = BookmarkMagazineRes.builder()
+                    .magazineId(magazine.getId())
+                    .thumbnail(magazine.getThumbnail())
+                    .title(magazine.getTitle())
+                    .writeTime(magazine.getCreatedDate().toLocalDate())
+                    .editor(magazine.getEditor())
+                    .build();
+            bookmarkMagazineResList.add(bookmarkMagazineRes);
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(new CursorSlice<>(bookmarkMagazineResList, bookmarkSlice.nextCursor(), bookmarkSlice.hasNext()))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+    private CursorSlice<Bookmark> findBookmarkSlice(User user, ContentType contentType, String cursor) {
+        Cursor position = Cursor.decode(cursor);
+        List<Bookmark> bookmarks = bookmarkRepository.findBookmarksByContentTypeAndUserAfterCursor(contentType, user, position.dateTime(), position.id(), PageRequest.of(0, 16));
+        return CursorSlice.of(bookmarks, 15, bookmark -> Cursor.of(bookmark.getCreatedDate(), bookmark.getId()));
+    }
+
+    private List<Long> contentIdsOf(CursorSlice<Bookmark> bookmarkSlice) {
+        return bookmarkSlice.contents().stream().map(Bookmark::getContentId).toList();
+    }
 }
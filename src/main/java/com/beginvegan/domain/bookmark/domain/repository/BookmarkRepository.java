@@ -8,8 +8,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +26,27 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     List<Bookmark> findByContentTypeAndUser(ContentType contentType, User user);
 
+    // 여러 콘텐츠의 북마크 여부를 한 번에 조회
+    @Query("SELECT b.contentId FROM Bookmark b WHERE b.user = :user AND b.contentType = :contentType AND b.contentId IN :contentIds")
+    List<Long> findContentIdsByContentTypeAndUserAndContentIdIn(@Param("contentType") ContentType contentType,
+                                                                @Param("user") User user,
+                                                                @Param("contentIds") Collection<Long> contentIds);
+
+    // 콘텐츠별 북마크 수 [콘텐츠 id, 북마크 수]
+    @Query("SELECT b.contentId, COUNT(b) FROM Bookmark b WHERE b.contentType = :contentType GROUP BY b.contentId")
+    List<Object[]> countGroupByContentId(@Param("contentType") ContentType contentType);
+
     Page<Bookmark> findBookmarksByContentTypeAndUser(ContentType contentType, User user, PageRequest pageRequest);
 
+    // 키셋 페이징 - 커서(createdDate, id) 이후의 북마크를 (user_id, content_type, created_date, id) 인덱스 순서로 조회
+    @Query("SELECT b FROM Bookmark b WHERE b.user = :user AND b.contentType = :contentType " +
+            "AND (b.createdDate < :cursorDate OR (b.createdDate = :cursorDate AND b.id < :cursorId)) " +
+            "ORDER BY b.createdDate DESC, b.id DESC")
+    List<Bookmark> findBookmarksByContentTypeAndUserAfterCursor(@Param("contentType") ContentType contentType,
+                                                                @Param("user") User user,
+                                                                @Param("cursorDate") LocalDateTime cursorDate,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Pageable pageable);
+
     Boolean existsByUserAndContentIdAndContentType(User user, Long magazineId, ContentType contentType);
 }
@@ -10,6 +10,7 @@ import com.beginvegan.domain.restaurant.dto.response.BookmarkRestaurantRes;
 import com.beginvegan.domain.restaurant.dto.response.RandomRestaurantRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import com.beginvegan.global.payload.Message;
 import io.swagger.v3.oas.annotations.Operation;
@@ -102,4 +103,49 @@ public class BookmarkController {
     ) {
         return bookmarkService.findBookmarkMagazine(userPrincipal, page);
     }
+
+    // ------------ 북마크 커서 조회 (최신순, 무한 스크롤) ------------
+    // Description : 식당
+    @Operation(summary = "유저가 스크랩한 식당 목록 조회 (커서)", description = "유저가 스크랩한 식당 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스크랩 식당 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "스크랩 식당 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/restaurant/slice")
+    public ResponseEntity<?> findBookmarkRestaurantByCursor(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "사용자의 위도입니다.", required = true) @RequestParam(value = "latitude") String latitude,
+            @Parameter(description = "사용자의 경도입니다.", required = true) @RequestParam(value = "longitude") String longitude
+    ) {
+        return bookmarkService.findBookmarkRestaurantByCursor(userPrincipal, cursor, latitude, longitude);
+    }
+
+    // Description : 레시피
+    @Operation(summary = "유저가 스크랩한 레시피 목록 조회 (커서)", description = "유저가 스크랩한 레시피 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스크랩 레시피 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "스크랩 레시피 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/recipe/slice")
+    public ResponseEntity<?> findBookmarkRecipeByCursor(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return bookmarkService.findBookmarkRecipeByCursor(userPrincipal, cursor);
+    }
+
+    // Description : 매거진
+    @Operation(summary = "유저가 스크랩한 매거진 목록 조회 (커서)", description = "유저가 스크랩한 매거진 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스크랩 매거진 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "스크랩 매거진 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/magazine/slice")
+    public ResponseEntity<?> findBookmarkMagazineByCursor(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return bookmarkService.findBookmarkMagazineByCursor(userPrincipal, cursor);
+    }
 }
@@ -1,22 +1,29 @@
 package com.beginvegan.domain.fcm.application;
 
+import com.beginvegan.domain.alarm.application.AlarmCreatedEvent;
+import com.beginvegan.domain.alarm.application.AlarmUnreadCounter;
 import com.beginvegan.domain.alarm.domain.Alarm;
 import com.beginvegan.domain.alarm.domain.AlarmType;
 import com.beginvegan.domain.alarm.domain.repository.AlarmRepository;
 import com.beginvegan.domain.fcm.domain.MessageType;
+import com.beginvegan.domain.fcm.domain.PushOutbox;
+import com.beginvegan.domain.fcm.domain.repository.PushOutboxRepository;
+import com.beginvegan.domain.fcm.dto.AnnouncementReq;
 import com.beginvegan.domain.fcm.dto.FcmSendDto;
-import com.beginvegan.domain.fcm.exception.FcmMessageException;
+import com.beginvegan.domain.fcm.dto.PushMessage;
 import com.beginvegan.domain.user.domain.User;
 import com.beginvegan.domain.user.domain.UserLevel;
 import com.beginvegan.domain.user.domain.repository.UserRepository;
 import com.beginvegan.global.DefaultAssert;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Notification;
+import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Message;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -25,56 +32,80 @@ public class FcmService {
 
     private final UserRepository userRepository;
     private final AlarmRepository alarmRepository;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AlarmUnreadCounter alarmUnreadCounter;
 
 
+    // Description : 푸시 알림 요청 - 호출한 트랜잭션 안에서 알림 내역과 outbox만 저장하고, 실제 전송은 PushOutboxDispatcher가 커밋 후 처리
+    // 호출하는 쪽에서 이미 가진 수신 유저를 그대로 사용 (토큰으로 유저를 다시 조회하지 않음)
     @Transactional
-    public String sendMessageTo(FcmSendDto fcmSendDto) throws FirebaseMessagingException {
-        String fcmToken = fcmSendDto.getToken();
-        User user = validateUserByToken(fcmToken);
+    public void sendMessageTo(User user, FcmSendDto fcmSendDto) {
+        sendMessageTo(user, fcmSendDto, null);
+    }
 
-        if (fcmToken == null) {
-            throw new IllegalArgumentException("FCM 토큰이 존재하지 않음");
+    // restaurantId : MAP 알림을 눌렀을 때 이동할 식당 - 알림 내역에 함께 저장
+    @Transactional
+    public void sendMessageTo(User user, FcmSendDto fcmSendDto, Long restaurantId) {
+        // 토큰이 없는 유저(로그아웃, 무효 토큰 정리 등)는 푸시 없이 알림 내역만 저장
+        if (user.getFcmToken() != null) {
+            PushOutbox pushOutbox = PushOutbox.builder()
+                    .user(user)
+                    .token(user.getFcmToken())
+                    .title(fcmSendDto.getTitle())
+                    .body(fcmSendDto.getBody())
+                    .alarmType(fcmSendDto.getAlarmType())
+                    .itemId(fcmSendDto.getItemId())
+                    .messageType(fcmSendDto.getMessageType())
+                    .userLevel(fcmSendDto.getUserLevel())
+                    .build();
+            pushOutboxRepository.save(pushOutbox);
         }
 
-        String res = null;
-        if (user.getAlarmSetting()) {
-            res = sendCombinedMessage(fcmToken, fcmSendDto);
-        } else {
-            res = sendDataMessage(fcmToken, fcmSendDto);
-        }
         // alarmType이 존재할 경우에만 알림 내역에 저장
         if (fcmSendDto.getAlarmType() != null) {
-            saveAlarmHistory(fcmSendDto);
+            saveAlarmHistory(user, fcmSendDto, restaurantId);
         }
-        return res;
     }
 
-    private String sendCombinedMessage(String token, FcmSendDto fcmSendDto) {
-        com.google.firebase.messaging.Message message = com.google.firebase.messaging.Message.builder()
-                .setToken(token)
-                .setNotification(Notification.builder()
-                        .setTitle(fcmSendDto.getTitle())
-                        .setBody(fcmSendDto.getBody())
-                        .build())
-                .putAllData(createDataMassage(fcmSendDto))  // 데이터 추가
-                .build();
-        try {
-            // FCM 메시지 전송
-            return FirebaseMessaging.getInstance().send(message);
-        } catch (FirebaseMessagingException e) {
-            // FirebaseMessagingException 처리
-            throw new FcmMessageException(e.getMessagingErrorCode(), e.getMessage());
+    @Transactional
+    public ResponseEntity<?> pushMessage(FcmSendDto fcmSendDto) {
+        // 모바일에서 토큰만 전달하는 경우 - fcm_token 인덱스로 유저 조회
+        if (fcmSendDto.getToken() == null) {
+            throw new IllegalArgumentException("FCM 토큰이 존재하지 않음");
         }
+        sendMessageTo(validateUserByToken(fcmSendDto.getToken()), fcmSendDto);
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(Message.builder().message("푸시 알림 전송을 요청했습니다.").build())
+                .build();
+        return ResponseEntity.ok(apiResponse);
     }
 
-    private String sendDataMessage(String token, FcmSendDto fcmSendDto) throws FirebaseMessagingException {
-        // 데이터 메시지 전송
-        com.google.firebase.messaging.Message message = com.google.firebase.messaging.Message.builder()
-                .setToken(token)
-                .putAllData(createDataMassage(fcmSendDto))
+    // Description : 공지 알림 - 토큰이 있는 모든 유저에게 outbox / 알림 내역을 한 번에 생성 (전송은 디스패처가 500개씩 묶어서 처리)
+    @Transactional
+    public ResponseEntity<?> sendAnnouncement(AnnouncementReq announcementReq) {
+        LocalDateTime now = LocalDateTime.now();
+        int count = pushOutboxRepository.insertAnnouncement("비긴, 비건", announcementReq.getBody(), AlarmType.INFORMATION.name(), now);
+        alarmRepository.insertAnnouncement(AlarmType.INFORMATION.name(), announcementReq.getBody(), now);
+        alarmUnreadCounter.evictAll();
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(Message.builder().message(count + "명에게 공지 알림 전송을 요청했습니다.").build())
                 .build();
+        return ResponseEntity.ok(apiResponse);
+    }
 
-        return FirebaseMessaging.getInstance().send(message);
+    // Description : outbox에 저장된 알림을 전송할 메시지로 변환 - 알림 설정은 전송 시점의 값을 사용
+    public PushMessage toPushMessage(PushOutbox pushOutbox) {
+        FcmSendDto fcmSendDto = makeFcmSendDto(pushOutbox.getToken(), pushOutbox.getAlarmType(), pushOutbox.getItemId(),
+                pushOutbox.getBody(), pushOutbox.getMessageType(), pushOutbox.getUserLevel());
+
+        // 알림을 켜 둔 유저에게는 notification + data, 끈 유저에게는 data 메시지만 전송
+        String title = pushOutbox.getUser().getAlarmSetting() ? pushOutbox.getTitle() : null;
+        return new PushMessage(pushOutbox.getToken(), title, pushOutbox.getBody(), createDataMassage(fcmSendDto));
     }
 
     private Map<String, String> createDataMassage(FcmSendDto fcmSendDto) {
@@ -111,18 +142,17 @@ public class FcmService {
                 .build();
     }
 
-    @Transactional
-    public void saveAlarmHistory(FcmSendDto fcmSendDto) {
-        User user = validateUserByToken(fcmSendDto.getToken());
-
+    private void saveAlarmHistory(User user, FcmSendDto fcmSendDto, Long restaurantId) {
         Alarm alarm = Alarm.builder()
                 .alarmType(fcmSendDto.getAlarmType())
                 .itemId(fcmSendDto.getItemId())
+                .restaurantId(restaurantId)
                 .content(fcmSendDto.getBody())
                 .user(user)
                 .build();
 
         alarmRepository.save(alarm);
+        eventPublisher.publishEvent(AlarmCreatedEvent.of(alarm));
     }
 
     private User validateUserByToken(String token) {
@@ -0,0 +1,53 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.dto.PushMessage;
+import com.beginvegan.domain.fcm.dto.PushResult;
+import com.beginvegan.domain.fcm.exception.FcmMessageException;
+import com.google.firebase.messaging.*;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Description : Firebase Admin SDK의 sendEach로 최대 500개의 메시지를 한 번에 전송
+@Profile("!push-local")
+@Component
+public class FirebasePushTransport implements PushTransport {
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        List<Message> firebaseMessages = messages.stream().map(this::toFirebaseMessage).toList();
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = FirebaseMessaging.getInstance().sendEach(firebaseMessages);
+        } catch (FirebaseMessagingException e) {
+            throw new FcmMessageException(e.getMessagingErrorCode(), e.getMessage());
+        }
+
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (SendResponse response : batchResponse.getResponses()) {
+            if (response.isSuccessful()) {
+                results.add(PushResult.sent());
+            } else {
+                FirebaseMessagingException e = response.getException();
+                results.add(PushResult.failed(e.getMessagingErrorCode(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private Message toFirebaseMessage(PushMessage pushMessage) {
+        Message.Builder message = Message.builder()
+                .setToken(pushMessage.token())
+                .putAllData(pushMessage.data());
+        if (pushMessage.hasNotification()) {
+            message.setNotification(Notification.builder()
+                    .setTitle(pushMessage.title())
+                    .setBody(pushMessage.body())
+                    .build());
+        }
+        return message.build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.dto.PushMessage;
+import com.beginvegan.domain.fcm.dto.PushResult;
+import com.beginvegan.domain.fcm.exception.FcmMessageException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Description : 부하 테스트용 메모리 전송 - Google에 요청하지 않고 전송된 메시지를 기록
+// 묶음당 지연 시간과 실패(메시지 단위 / 묶음 전체 / 무효 토큰)를 설정으로 주입
+@Profile("push-local")
+@Component
+public class InMemoryPushTransport implements PushTransport {
+
+    // 묶음 한 번 전송에 걸리는 시간 (FCM 왕복 시간 흉내)
+    @Value("${push.local.latency:50}")
+    private long latencyMillis;
+
+    // 메시지 단위 일시 오류(UNAVAILABLE) 비율 (0.0 ~ 1.0)
+    @Value("${push.local.failure-rate:0.0}")
+    private double failureRate;
+
+    // 묶음 전체 실패 비율 (0.0 ~ 1.0)
+    @Value("${push.local.batch-failure-rate:0.0}")
+    private double batchFailureRate;
+
+    // 이 접두어로 시작하는 토큰은 등록 해제(UNREGISTERED)로 응답
+    @Value("${push.local.invalid-token-prefix:invalid-}")
+    private String invalidTokenPrefix;
+
+    // 최근 전송 기록 보관 개수
+    @Value("${push.local.record-size:10000}")
+    private int recordSize;
+
+    private final ConcurrentLinkedDeque<PushMessage> sentMessages = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        sleep();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < batchFailureRate) {
+            failedCount.addAndGet(messages.size());
+            throw new FcmMessageException(MessagingErrorCode.UNAVAILABLE, "Injected batch failure");
+        }
+
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            if (message.token() != null && message.token().startsWith(invalidTokenPrefix)) {
+                results.add(PushResult.failed(MessagingErrorCode.UNREGISTERED, "Injected unregistered token"));
+                failedCount.incrementAndGet();
+            } else if (random.nextDouble() < failureRate) {
+                results.add(PushResult.failed(MessagingErrorCode.UNAVAILABLE, "Injected failure"));
+                failedCount.incrementAndGet();
+            } else {
+                results.add(PushResult.sent());
+                record(message);
+            }
+        }
+        return results;
+    }
+
+    // 최근 전송된 메시지 (오래된 순)
+    public List<PushMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public void clear() {
+        sentMessages.clear();
+        sentCount.set(0);
+        failedCount.set(0);
+    }
+
+    private void record(PushMessage message) {
+        sentMessages.addLast(message);
+        if (sentCount.incrementAndGet() > recordSize) {
+            sentMessages.pollFirst();
+        }
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
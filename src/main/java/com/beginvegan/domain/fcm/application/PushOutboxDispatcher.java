@@ -0,0 +1,157 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.domain.PushOutbox;
+import com.beginvegan.domain.fcm.dto.PushMessage;
+import com.beginvegan.domain.fcm.dto.PushResult;
+import com.beginvegan.domain.fcm.exception.FcmMessageException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Description : 푸시 outbox 디스패처 - 한 주기(batch-window) 동안 쌓인 알림을 최대 500개씩 묶어 PushTransport로 전송
+// 요청 스레드 / DB 트랜잭션은 FCM 응답을 기다리지 않고, FCM 장애가 유저의 동작을 롤백시키지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxDispatcher {
+
+    // 다시 보내도 실패하는 오류 - 바로 dead-letter 처리
+    private static final Set<MessagingErrorCode> PERMANENT_ERRORS = Set.of(
+            MessagingErrorCode.INVALID_ARGUMENT, MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    // 토큰 자체가 무효 - 유저 정보에서 토큰 제거
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+            MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
+    private final PushOutboxService pushOutboxService;
+    private final FcmService fcmService;
+    private final PushTransport pushTransport;
+
+    // 동시에 전송하는 묶음 수
+    @Value("${fcm.outbox.concurrency:4}")
+    private int concurrency;
+
+    // 묶음 하나의 크기 (최대 500)
+    @Value("${fcm.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 조회 주기
+    @Value("${fcm.outbox.batch-window:1000}")
+    private long batchWindowMillis;
+
+    private ExecutorService executor;
+    // 전용 조회 스레드 - 공용 @Scheduled 스레드의 다른 작업(정리 / 재색인 등)이 전송을 지연시키지 않도록 분리
+    private ScheduledExecutorService poller;
+
+    @PostConstruct
+    public void init() {
+        batchSize = Math.min(batchSize, PushTransport.MAX_BATCH_SIZE);
+        executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("push-dispatcher-"));
+        poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("push-outbox-poller-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(this::dispatchSafely, batchWindowMillis, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+        executor.shutdown();
+    }
+
+    // 예외가 나도 다음 주기는 계속 실행 (scheduleWithFixedDelay는 예외가 나면 이후 실행을 멈춤)
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Push outbox dispatch failed", e);
+        }
+    }
+
+    // 한 주기에 최대 concurrency개 묶음을 동시에 전송하고, 모두 끝난 뒤 다음 주기
+    public void dispatch() {
+        List<Long> dueIds = pushOutboxService.findDueIds(batchSize * concurrency);
+        if (dueIds.isEmpty()) {
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < dueIds.size(); from += batchSize) {
+            List<Long> batchIds = dueIds.subList(from, Math.min(from + batchSize, dueIds.size()));
+            tasks.add(() -> {
+                deliver(batchIds);
+                return null;
+            });
+        }
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(List<Long> batchIds) {
+        List<PushOutbox> claimed = pushOutboxService.claim(batchIds);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // 같은 토큰에 같은 내용으로 쌓인 알림은 한 번만 전송 (추천 연타 등)
+        Map<String, List<PushOutbox>> coalesced = new LinkedHashMap<>();
+        for (PushOutbox pushOutbox : claimed) {
+            String key = pushOutbox.getToken() + "\n" + pushOutbox.getMessageType() + "\n" + pushOutbox.getItemId() + "\n" + pushOutbox.getBody();
+            coalesced.computeIfAbsent(key, k -> new ArrayList<>()).add(pushOutbox);
+        }
+        List<List<PushOutbox>> groups = new ArrayList<>(coalesced.values());
+        List<PushMessage> messages = groups.stream().map(group -> fcmService.toPushMessage(group.get(0))).toList();
+
+        List<PushResult> results;
+        try {
+            results = pushTransport.sendEach(messages);
+        } catch (FcmMessageException e) {
+            // 묶음 전체 실패 (인증 / 네트워크 등)
+            boolean retriable = !PERMANENT_ERRORS.contains(e.getMessagingErrorCode());
+            claimed.forEach(pushOutbox -> pushOutboxService.markFailed(pushOutbox.getId(), e.getMessagingErrorCode() + " " + e.getMessage(), retriable));
+            return;
+        } catch (RuntimeException e) {
+            log.error("Push outbox batch delivery failed : {} messages", claimed.size(), e);
+            claimed.forEach(pushOutbox -> pushOutboxService.markFailed(pushOutbox.getId(), e.toString(), true));
+            return;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 0; i < groups.size(); i++) {
+            PushResult result = results.get(i);
+            for (PushOutbox pushOutbox : groups.get(i)) {
+                if (result.success()) {
+                    sentIds.add(pushOutbox.getId());
+                } else {
+                    pushOutboxService.markFailed(pushOutbox.getId(), result.errorCode() + " " + result.error(), !PERMANENT_ERRORS.contains(result.errorCode()));
+                }
+            }
+            if (!result.success() && INVALID_TOKEN_ERRORS.contains(result.errorCode())) {
+                invalidTokens.add(groups.get(i).get(0).getToken());
+            }
+        }
+        pushOutboxService.markSent(sentIds);
+        pushOutboxService.pruneTokens(invalidTokens);
+    }
+}
@@ -0,0 +1,111 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.domain.PushOutbox;
+import com.beginvegan.domain.fcm.domain.PushStatus;
+import com.beginvegan.domain.fcm.domain.repository.PushOutboxRepository;
+import com.beginvegan.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Description : 푸시 outbox 상태 전이 - 점유 / 전송 완료 / 재시도 예약 / dead-letter / 무효 토큰 정리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PushOutboxService {
+
+    private static final List<PushStatus> DUE_STATUSES = List.of(PushStatus.PENDING, PushStatus.SENDING);
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final UserRepository userRepository;
+
+    @Value("${fcm.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 재시도 간격 - backoff * 2^(시도 횟수 - 1), 최대 max-backoff
+    @Value("${fcm.outbox.backoff:30000}")
+    private long backoffMillis;
+
+    @Value("${fcm.outbox.max-backoff:3600000}")
+    private long maxBackoffMillis;
+
+    // 점유 후 이 시간 안에 결과가 기록되지 않으면 다른 디스패처가 다시 가져감
+    @Value("${fcm.outbox.lease:60000}")
+    private long leaseMillis;
+
+    @Value("${fcm.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int size) {
+        return pushOutboxRepository.findDueIds(DUE_STATUSES, LocalDateTime.now(), PageRequest.of(0, size));
+    }
+
+    // 묶음 점유 - 점유에 성공한 알림만 반환 (수신 유저 포함)
+    @Transactional
+    public List<PushOutbox> claim(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = UUID.randomUUID().toString();
+        if (pushOutboxRepository.claimAll(ids, DUE_STATUSES, PushStatus.SENDING, now, now.plus(leaseMillis, ChronoUnit.MILLIS), claimToken) == 0) {
+            return List.of();
+        }
+        return pushOutboxRepository.findByClaimToken(claimToken);
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            pushOutboxRepository.markAllSent(ids, PushStatus.SENT, LocalDateTime.now());
+        }
+    }
+
+    // FCM이 등록 해제 / 잘못된 토큰이라고 응답한 토큰을 유저 정보에서 제거
+    @Transactional
+    public void pruneTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        int pruned = userRepository.clearFcmTokens(tokens);
+        log.info("Invalid FCM tokens pruned : {} users", pruned);
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error, boolean retriable) {
+        PushOutbox pushOutbox = pushOutboxRepository.findById(id).orElse(null);
+        if (pushOutbox == null) {
+            return;
+        }
+        if (!retriable || pushOutbox.getAttempts() >= maxAttempts) {
+            pushOutbox.markDead(error);
+            log.warn("Push outbox {} dead-lettered after {} attempts : {}", id, pushOutbox.getAttempts(), error);
+            return;
+        }
+        pushOutbox.markRetry(LocalDateTime.now().plus(retryDelayMillis(pushOutbox.getAttempts()), ChronoUnit.MILLIS), error);
+    }
+
+    // 시도 횟수에 따른 재시도 간격 - 점유 전에 실패한 경우(0회)도 첫 간격 사용, 2^20배 이상은 늘리지 않음 (시프트 넘침 방지)
+    long retryDelayMillis(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffMillis << exponent, maxBackoffMillis);
+    }
+
+    // 매일 새벽 5시 - 전송 완료된 알림 정리 (dead-letter는 확인을 위해 남겨 둠)
+    @Scheduled(cron = "${fcm.outbox.cleanup-cron:0 0 5 * * ?}")
+    @Transactional
+    public void deleteSentOutbox() {
+        int deleted = pushOutboxRepository.deleteByPushStatusAndModifiedDateBefore(PushStatus.SENT, LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Push outbox cleaned up : {} sent messages", deleted);
+        }
+    }
+}
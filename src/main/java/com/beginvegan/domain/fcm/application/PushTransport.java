@@ -0,0 +1,16 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.dto.PushMessage;
+import com.beginvegan.domain.fcm.dto.PushResult;
+
+import java.util.List;
+
+// Description : 푸시 전송 수단 - 기본은 Firebase(FirebasePushTransport), push-local 프로필에서는 메모리(InMemoryPushTransport)
+public interface PushTransport {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    // 결과는 messages와 같은 순서 - 묶음 전체가 실패하면 FcmMessageException
+    List<PushResult> sendEach(List<PushMessage> messages);
+}
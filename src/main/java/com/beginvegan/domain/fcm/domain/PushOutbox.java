@@ -0,0 +1,101 @@
+package com.beginvegan.domain.fcm.domain;
+
+import com.beginvegan.domain.alarm.domain.AlarmType;
+import com.beginvegan.domain.common.BaseEntity;
+import com.beginvegan.domain.user.domain.User;
+import com.beginvegan.domain.user.domain.UserLevel;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Description : 푸시 알림 outbox - 알림을 발생시킨 트랜잭션에서 함께 저장하고, 커밋 후 디스패처가 FCM으로 전송
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "push_status, nextAttemptAt"),
+        @Index(name = "idx_push_outbox_claim_token", columnList = "claimToken")
+})
+public class PushOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private String token;
+
+    private String title;
+
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private AlarmType alarmType;
+
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    private MessageType messageType;
+
+    @Enumerated(EnumType.STRING)
+    private UserLevel userLevel;
+
+    // BaseEntity의 status(ACTIVE/DELETE)와 구분
+    @Enumerated(EnumType.STRING)
+    @Column(name = "push_status")
+    private PushStatus pushStatus;
+
+    private int attempts;
+
+    // PENDING : 다음 전송 가능 시각, SENDING : 점유 만료 시각 (디스패처가 죽으면 이후 다시 가져감)
+    private LocalDateTime nextAttemptAt;
+
+    // 한 번에 점유한 묶음의 식별자 - 점유한 디스패처가 자신의 묶음만 다시 조회
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public PushOutbox(User user, String token, String title, String body, AlarmType alarmType, Long itemId, MessageType messageType, UserLevel userLevel) {
+        this.user = user;
+        this.token = token;
+        this.title = title;
+        this.body = body;
+        this.alarmType = alarmType;
+        this.itemId = itemId;
+        this.messageType = messageType;
+        this.userLevel = userLevel;
+        this.pushStatus = PushStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent() {
+        this.pushStatus = PushStatus.SENT;
+        this.lastError = null;
+    }
+
+    public void markRetry(LocalDateTime nextAttemptAt, String error) {
+        this.pushStatus = PushStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.pushStatus = PushStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,10 @@
+package com.beginvegan.domain.fcm.domain;
+
+public enum PushStatus {
+
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    SENDING, // 디스패처가 가져가 전송 중
+    SENT,
+    DEAD, // 재시도 횟수 초과 또는 재시도해도 실패하는 오류 - 전송하지 않고 보관
+
+}
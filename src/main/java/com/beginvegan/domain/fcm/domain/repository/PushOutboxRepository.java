@@ -0,0 +1,47 @@
+package com.beginvegan.domain.fcm.domain.repository;
+
+import com.beginvegan.domain.fcm.domain.PushOutbox;
+import com.beginvegan.domain.fcm.domain.PushStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    // 전송할 차례가 된 알림 - 대기 중이거나 점유가 만료된 전송 중 알림 (push_status, next_attempt_at) 인덱스 사용
+    @Query("SELECT p.id FROM PushOutbox p WHERE p.pushStatus IN :pushStatuses AND p.nextAttemptAt <= :now ORDER BY p.nextAttemptAt, p.id")
+    List<Long> findDueIds(Collection<PushStatus> pushStatuses, LocalDateTime now, Pageable pageable);
+
+    // 묶음 점유 - 여러 서버 / 스레드가 같은 알림을 가져가도 한 곳만 성공 (claimToken으로 자신이 점유한 행만 조회)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PushOutbox p SET p.pushStatus = :sending, p.attempts = p.attempts + 1, p.nextAttemptAt = :leaseUntil, p.claimToken = :claimToken " +
+            "WHERE p.id IN :ids AND p.pushStatus IN :pushStatuses AND p.nextAttemptAt <= :now")
+    int claimAll(Collection<Long> ids, Collection<PushStatus> pushStatuses, PushStatus sending, LocalDateTime now, LocalDateTime leaseUntil, String claimToken);
+
+    @EntityGraph(attributePaths = {"user"})
+    List<PushOutbox> findByClaimToken(String claimToken);
+
+    @Modifying
+    @Query("UPDATE PushOutbox p SET p.pushStatus = :sent, p.lastError = null, p.modifiedDate = :now WHERE p.id IN :ids")
+    int markAllSent(Collection<Long> ids, PushStatus sent, LocalDateTime now);
+
+    // 공지 - 토큰이 있는 모든 유저의 outbox를 한 번의 INSERT ... SELECT로 생성
+    @Modifying
+    @Query(value = "INSERT INTO push_outbox (user_id, token, title, body, alarm_type, push_status, attempts, next_attempt_at, created_date, modified_date, status) " +
+            "SELECT u.id, u.fcm_token, :title, :body, :alarmType, 'PENDING', 0, :now, :now, :now, 'ACTIVE' " +
+            "FROM user u WHERE u.fcm_token IS NOT NULL AND u.status = 'ACTIVE'", nativeQuery = true)
+    int insertAnnouncement(String title, String body, String alarmType, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox p WHERE p.pushStatus = :pushStatus AND p.modifiedDate < :threshold")
+    int deleteByPushStatusAndModifiedDateBefore(PushStatus pushStatus, LocalDateTime threshold);
+}
@@ -0,0 +1,13 @@
+package com.beginvegan.domain.fcm.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class AnnouncementReq {
+
+    @Schema(type = "string", example = "새로운 매거진이 등록되었어요. 지금 확인해 보세요!", description = "공지 알림의 내용입니다.")
+    @NotBlank(message = "공지 내용을 입력해주세요.")
+    private String body;
+}
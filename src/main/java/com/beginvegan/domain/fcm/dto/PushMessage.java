@@ -0,0 +1,11 @@
+package com.beginvegan.domain.fcm.dto;
+
+import java.util.Map;
+
+// Description : 전송 수단(PushTransport)과 무관한 푸시 메시지 - title이 없으면 data 메시지로만 전송
+public record PushMessage(String token, String title, String body, Map<String, String> data) {
+
+    public boolean hasNotification() {
+        return title != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.beginvegan.domain.fcm.dto;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+// Description : 메시지별 전송 결과 (실패 시 오류 코드)
+public record PushResult(boolean success, MessagingErrorCode errorCode, String error) {
+
+    public static PushResult sent() {
+        return new PushResult(true, null, null);
+    }
+
+    public static PushResult failed(MessagingErrorCode errorCode, String error) {
+        return new PushResult(false, errorCode, error);
+    }
+}
@@ -1,10 +1,10 @@
 package com.beginvegan.domain.fcm.presentation;
 
 import com.beginvegan.domain.fcm.application.FcmService;
+import com.beginvegan.domain.fcm.dto.AnnouncementReq;
 import com.beginvegan.domain.fcm.dto.FcmSendDto;
 import com.beginvegan.global.payload.ErrorResponse;
 import com.beginvegan.global.payload.Message;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,10 +36,22 @@ public class FcmController {
             @ApiResponse(responseCode = "400", description = "전송 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
     })
     @PostMapping("/send")
-    public String pushMessage(
+    public ResponseEntity<?> pushMessage(
             @Parameter(description = "Schemas의 FcmSendDto를 확인해주세요.", required = true) @RequestBody @Validated FcmSendDto fcmSendDto
-    ) throws FirebaseMessagingException {
+    ) {
         log.debug("[+] 푸시 메시지를 전송합니다. ");
-        return fcmService.sendMessageTo(fcmSendDto);
+        return fcmService.pushMessage(fcmSendDto);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "FCM 공지 알림 전송", description = "FCM 토큰이 등록된 모든 유저에게 공지 알림을 전송합니다. 관리자만 사용할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "전송 요청 성공", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = Message.class) ) } ),
+            @ApiResponse(responseCode = "400", description = "전송 요청 실패", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class) ) } ),
+    })
+    @PostMapping("/announcement")
+    public ResponseEntity<?> sendAnnouncement(
+            @Parameter(description = "Schemas의 AnnouncementReq를 확인해주세요.", required = true) @RequestBody @Validated AnnouncementReq announcementReq
+    ) {
+        return fcmService.sendAnnouncement(announcementReq);
+    }
+}
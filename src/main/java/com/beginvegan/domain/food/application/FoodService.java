@@ -17,6 +17,8 @@ import com.beginvegan.domain.user.domain.repository.UserRepository;
 import com.beginvegan.global.DefaultAssert;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -169,6 +171,34 @@ public class FoodService {
         return ResponseEntity.ok(apiResponse);
     }
 
+    // Description : 전체 레시피 목록 커서 조회 (최신순) - offset / count 없이 커서 위치부터 10개
+    public ResponseEntity<?> findAllFoodsByCursor(UserPrincipal userPrincipal, String cursor) {
+        User user = userService.validateUserById(userPrincipal.getId());
+        Cursor position = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Food> foods = foodRepository.findAllAfterCursor(position.dateTime(), position.id(), PageRequest.of(0, 11));
+        CursorSlice<Food> foodSlice = CursorSlice.of(foods, 10, food -> Cursor.of(food.getCreatedDate(), food.getId()));
+
+        List<Long> foodIds = foodSlice.contents().stream().map(Food::getId).toList();
+        Set<Long> bookmarkedIds = foodIds.isEmpty() ? Set.of() :
+                new HashSet<>(bookmarkRepository.findContentIdsByContentTypeAndUserAndContentIdIn(ContentType.RECIPE, user, foodIds));
+
+        CursorSlice<FoodListRes> foodListSlice = foodSlice.map(food -> FoodListRes.builder()
+                .id(food.getId())
+                .name(food.getName())
+                .veganType(food.getVeganType())
+                .isBookmarked(bookmarkedIds.contains(food.getId()))
+                .build());
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(foodListSlice)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     @Transactional(readOnly = true)
     public ResponseEntity<?> findMyFoods(Integer page, UserPrincipal userPrincipal) {
         Pageable pageable = PageRequest.of(page, 10);
@@ -15,6 +15,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_food_created", columnList = "createdDate, id"))
 public class Food extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
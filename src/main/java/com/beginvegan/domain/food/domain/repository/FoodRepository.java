@@ -5,11 +5,18 @@ import com.beginvegan.domain.user.domain.VeganType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
 public interface FoodRepository extends JpaRepository<Food, Long> {
     Page<Food> findAllByVeganTypeIn(List<VeganType> veganTypes, Pageable pageable);
 
+    // 키셋 페이징 - 커서(createdDate, id) 이후의 레시피를 (created_date, id) 인덱스 순서로 조회
+    @Query("SELECT f FROM Food f WHERE f.createdDate < :cursorDate OR (f.createdDate = :cursorDate AND f.id < :cursorId) " +
+            "ORDER BY f.createdDate DESC, f.id DESC")
+    List<Food> findAllAfterCursor(LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
 }
@@ -6,6 +6,7 @@ import com.beginvegan.domain.food.dto.response.FoodDetailRes;
 import com.beginvegan.domain.food.dto.response.FoodListRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,6 +40,19 @@ public class FoodController {
         return foodService.findAllFoods(userPrincipal, page);
     }
 
+    @Operation(summary = "전체 레시피 목록 조회 (커서)", description = "전체 레시피 목록을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "전체 레시피 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "전체 레시피 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<?> findAllFoodsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor,
+            @CurrentUser UserPrincipal userPrincipal
+    ) {
+        return foodService.findAllFoodsByCursor(userPrincipal, cursor);
+    }
+
     // 레시피 상세 정보 조회
     @Operation(summary = "레시피 상세 정보 조회", description = "food_id를 통한 레시피 상세 정보를 조회합니다.")
     @ApiResponses(value = {
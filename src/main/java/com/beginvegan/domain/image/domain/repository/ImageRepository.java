@@ -3,11 +3,17 @@ package com.beginvegan.domain.image.domain.repository;
 import com.beginvegan.domain.image.domain.Image;
 import com.beginvegan.domain.review.domain.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
     List<Image> findByReview(Review review);
+
+    @Query("SELECT i FROM Image i WHERE i.review.id IN :reviewIds")
+    List<Image> findByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -13,6 +13,8 @@ import com.beginvegan.domain.user.domain.User;
 import com.beginvegan.global.DefaultAssert;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -120,6 +122,36 @@ public class MagazineService {
         return ResponseEntity.ok(apiResponse);
     }
 
+    // Description : 전체 매거진 목록 커서 조회 (최신순) - offset / count 없이 커서 위치부터 10개
+    public ResponseEntity<?> findAllMagazinesByCursor(UserPrincipal userPrincipal, String cursor) {
+        User user = userService.validateUserById(userPrincipal.getId());
+        Cursor position = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Magazine> magazines = magazineRepository.findAllAfterCursor(position.dateTime(), position.id(), PageRequest.of(0, 11));
+        CursorSlice<Magazine> magazineSlice = CursorSlice.of(magazines, 10, magazine -> Cursor.of(magazine.getCreatedDate(), magazine.getId()));
+
+        List<Long> magazineIds = magazineSlice.contents().stream().map(Magazine::getId).toList();
+        Set<Long> bookmarkedIds = magazineIds.isEmpty() ? Set.of() :
+                new HashSet<>(bookmarkRepository.findContentIdsByContentTypeAndUserAndContentIdIn(ContentType.MAGAZINE, user, magazineIds));
+
+        CursorSlice<MagazineListRes> magazineListSlice = magazineSlice.map(magazine -> MagazineListRes.builder()
+                .id(magazine.getId())
+                .title(magazine.getTitle())
+                .thumbnail(magazine.getThumbnail())
+                .editor(magazine.getEditor())
+                .createdDate(magazine.getCreatedDate())
+                .isBookmarked(bookmarkedIds.contains(magazine.getId()))
+                .build());
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(magazineListSlice)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     public ResponseEntity<?> findThreeMagazines(UserPrincipal userPrincipal) {
         List<Magazine> magazines = magazineRepository.findAll();
         List<MagazineListRes> magazineList = new ArrayList<>();
@@ -14,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_magazine_created", columnList = "createdDate, id"))
 public class Magazine extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,10 +2,13 @@ package com.beginvegan.domain.magazine.domain.repository;
 
 import com.beginvegan.domain.magazine.domain.Magazine;
 import com.beginvegan.domain.magazine.domain.MagazineType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +20,9 @@ public interface MagazineRepository extends JpaRepository<Magazine, Long> {
     @EntityGraph(attributePaths = {"magazineBlocks"})
     Optional<Magazine> findMagazineById(Long magazineId);
 
+    // 키셋 페이징 - 커서(createdDate, id) 이후의 매거진을 (created_date, id) 인덱스 순서로 조회
+    @Query("SELECT m FROM Magazine m WHERE m.createdDate < :cursorDate OR (m.createdDate = :cursorDate AND m.id < :cursorId) " +
+            "ORDER BY m.createdDate DESC, m.id DESC")
+    List<Magazine> findAllAfterCursor(LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
 }
@@ -5,6 +5,7 @@ import com.beginvegan.domain.magazine.dto.response.MagazineDetailRes;
 import com.beginvegan.domain.magazine.dto.response.MagazineListRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +52,19 @@ public class MagazineController {
         return magazineService.findAllMagazines(userPrincipal,page);
     }
 
+    //매거진 전체 목록 커서 조회
+    @Operation(summary = "전체 매거진 목록 조회 (커서)", description = "전체 매거진 목록을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "전체 매거진 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "전체 매거진 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/all/slice")
+    public ResponseEntity<?> findAllMagazinesByCursor(
+            @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor) {
+        return magazineService.findAllMagazinesByCursor(userPrincipal, cursor);
+    }
+
     //매거진 랜덤 3가지 조회
     @Operation(summary = "3가지 매거진 목록 조회", description = "3가지 매거진 목록 조회")
     @ApiResponses(value = {
@@ -5,8 +5,13 @@ import com.beginvegan.domain.recommendation.domain.Recommendation;
 import com.beginvegan.domain.review.domain.Review;
 import com.beginvegan.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RecommendationRepository extends JpaRepository<Recommendation, Long> {
 
@@ -19,4 +24,12 @@ public interface RecommendationRepository extends JpaRepository<Recommendation,
     int countByReviewAndStatus(Review review, Status status);
 
     boolean existsByUserAndReviewAndStatus(User user, Review review, Status status);
+
+    // 리뷰별 추천 수 [리뷰 id, 추천 수]
+    @Query("SELECT rec.review.id, COUNT(rec) FROM Recommendation rec WHERE rec.status = :status GROUP BY rec.review.id")
+    List<Object[]> countGroupByReview(@Param("status") Status status);
+
+    // 유저가 추천한 리뷰 id
+    @Query("SELECT rec.review.id FROM Recommendation rec WHERE rec.user = :user AND rec.review.id IN :reviewIds AND rec.status = :status")
+    List<Long> findReviewIdsByUserAndReviewIdInAndStatus(@Param("user") User user, @Param("reviewIds") Collection<Long> reviewIds, @Param("status") Status status);
 }
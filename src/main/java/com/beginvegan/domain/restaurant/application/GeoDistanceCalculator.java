@@ -0,0 +1,48 @@
+package com.beginvegan.domain.restaurant.application;
+
+// Description : 유저 위치 기준 거리 계산기 - 유저 좌표의 삼각함수 값을 요청당 한 번만 계산
+public final class GeoDistanceCalculator {
+
+    // 지구의 반지름
+    public static final int EARTH_RADIUS = 6371;
+    // 이 거리(km) 이내의 위경도 차이는 equirectangular 근사로 계산 (오차 0.1% 미만)
+    private static final double FAST_PATH_DISTANCE = 50;
+    private static final double FAST_PATH_RADIAN = FAST_PATH_DISTANCE / EARTH_RADIUS;
+
+    private final double latitudeRadian;
+    private final double longitudeRadian;
+    private final double cosLatitude;
+
+    private GeoDistanceCalculator(double latitude, double longitude) {
+        this.latitudeRadian = Math.toRadians(latitude);
+        this.longitudeRadian = Math.toRadians(longitude);
+        this.cosLatitude = Math.cos(latitudeRadian);
+    }
+
+    public static GeoDistanceCalculator from(double userLatitude, double userLongitude) {
+        return new GeoDistanceCalculator(userLatitude, userLongitude);
+    }
+
+    // 두 지점 간의 직선 거리를 반환 (단위: km)
+    public double distance(double latitude, double longitude) {
+        double restaurantLatitudeRadian = Math.toRadians(latitude);
+        return distance(restaurantLatitudeRadian, Math.toRadians(longitude), Math.cos(restaurantLatitudeRadian));
+    }
+
+    // 라디안으로 변환된 좌표와 cos(위도)를 받아 거리 계산 (단위: km)
+    public double distance(double restaurantLatitudeRadian, double restaurantLongitudeRadian, double restaurantCosLatitude) {
+        double dLatitude = restaurantLatitudeRadian - latitudeRadian;
+        double dLongitude = restaurantLongitudeRadian - longitudeRadian;
+
+        if (Math.abs(dLatitude) < FAST_PATH_RADIAN && Math.abs(dLongitude) * cosLatitude < FAST_PATH_RADIAN) {
+            // 두 지점 cos(위도)의 평균으로 경도 차이를 보정 - 추가 삼각함수 호출 없음
+            double x = dLongitude * (cosLatitude + restaurantCosLatitude) / 2;
+            return EARTH_RADIUS * Math.sqrt(x * x + dLatitude * dLatitude);
+        }
+
+        double sinLatitude = Math.sin(dLatitude / 2);
+        double sinLongitude = Math.sin(dLongitude / 2);
+        double a = sinLatitude * sinLatitude + cosLatitude * restaurantCosLatitude * sinLongitude * sinLongitude;
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
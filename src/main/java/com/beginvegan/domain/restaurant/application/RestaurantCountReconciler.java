@@ -0,0 +1,102 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.bookmark.domain.repository.BookmarkRepository;
+import com.beginvegan.domain.bookmark.domain.repository.ContentType;
+import com.beginvegan.domain.common.Status;
+import com.beginvegan.domain.recommendation.domain.repository.RecommendationRepository;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import com.beginvegan.domain.review.domain.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Description : 식당의 리뷰 수 / 스크랩 수 / 평점 합계, 리뷰의 추천 수 컬럼을 실제 리뷰, 스크랩, 추천과 비교해 어긋난 행만 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCountReconciler {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ReviewRepository reviewRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RecommendationRepository recommendationRepository;
+
+    // 매일 새벽 4시 30분 - 어긋난 식당만 찾아 UPDATE 안에서 다시 센 값으로 보정 (보정은 식당마다 짧은 트랜잭션)
+    @Scheduled(cron = "${restaurant.count-reconcile.cron:0 30 4 * * ?}")
+    public void reconcile() {
+        Map<Long, Long> reviewCounts = toCountMap(reviewRepository.countGroupByRestaurant());
+        Map<Long, Long> bookmarkCounts = toCountMap(bookmarkRepository.countGroupByContentId(ContentType.RESTAURANT));
+
+        int repaired = 0;
+        for (Object[] row : restaurantRepository.findAllCounts()) {
+            Long restaurantId = (Long) row[0];
+            int reviewCount = reviewCounts.getOrDefault(restaurantId, 0L).intValue();
+            int bookmarkCount = bookmarkCounts.getOrDefault(restaurantId, 0L).intValue();
+            if ((Integer) row[1] != reviewCount || (Integer) row[2] != bookmarkCount) {
+                restaurantRepository.repairCounts(restaurantId, ContentType.RESTAURANT);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Restaurant review / bookmark counts repaired : {} restaurants", repaired);
+        }
+    }
+
+    // 매시 15분 - 노출 중인 리뷰의 평점 합계 / 개수를 한 번의 집계 쿼리로 다시 계산해 비교하고, 어긋난 식당만 UPDATE 안에서 다시 집계해 보정
+    @Scheduled(cron = "${restaurant.rating-reconcile.cron:0 15 * * * ?}")
+    public void reconcileRatings() {
+        Map<Long, Object[]> ratingTotals = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRateGroupByRestaurant()) {
+            ratingTotals.put((Long) row[0], row);
+        }
+
+        int repaired = 0;
+        for (Object[] row : restaurantRepository.findAllRatingTotals()) {
+            Long restaurantId = (Long) row[0];
+            Object[] ratingTotal = ratingTotals.get(restaurantId);
+            double rateSum = ratingTotal == null || ratingTotal[1] == null ? 0 : ((Number) ratingTotal[1]).doubleValue();
+            int rateCount = ratingTotal == null ? 0 : ((Number) ratingTotal[2]).intValue();
+            if (Math.abs((Double) row[1] - rateSum) > 1e-6 || (Integer) row[2] != rateCount) {
+                restaurantRepository.repairRatingTotals(restaurantId);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Restaurant rating totals repaired : {} restaurants", repaired);
+        }
+    }
+
+    // 매일 새벽 4시 45분 - 리뷰별 ACTIVE 추천 수를 한 번의 집계 쿼리로 다시 계산해 비교
+    @Scheduled(cron = "${review.recommendation-reconcile.cron:0 45 4 * * ?}")
+    @Transactional
+    public void reconcileRecommendations() {
+        Map<Long, Long> recommendationCounts = toCountMap(recommendationRepository.countGroupByReview(Status.ACTIVE));
+
+        int repaired = 0;
+        for (Object[] row : reviewRepository.findAllRecommendationCounts()) {
+            Long reviewId = (Long) row[0];
+            int recommendationCount = recommendationCounts.getOrDefault(reviewId, 0L).intValue();
+            if ((Integer) row[1] != recommendationCount) {
+                reviewRepository.updateRecommendationCountTo(reviewId, recommendationCount);
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Review recommendation counts repaired : {} reviews", repaired);
+        }
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
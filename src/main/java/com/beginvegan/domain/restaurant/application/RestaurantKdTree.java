@@ -0,0 +1,233 @@
+package com.beginvegan.domain.restaurant.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Description : 식당 좌표 KD-tree (불변) - 단위 구 위의 3차원 좌표로 저장하여 현(chord) 거리 순서 = 실제 거리 순서
+public class RestaurantKdTree {
+
+    private static final int EARTH_RADIUS = GeoDistanceCalculator.EARTH_RADIUS;
+    private static final int LEAF_SIZE = 8;
+
+    private final long[] ids;
+    private final double[][] coordinates; // [축][점]
+
+    // 노드 정보 : 점 범위 [lo, hi), 자식 노드, 경계 상자
+    private final int[] nodeLo;
+    private final int[] nodeHi;
+    private final int[] nodeLeft;
+    private final int[] nodeRight;
+    private final double[][] nodeMin;
+    private final double[][] nodeMax;
+    private int nodeCount;
+
+    public RestaurantKdTree(long[] ids, double[] latitudes, double[] longitudes) {
+        int size = ids.length;
+        this.ids = ids.clone();
+        this.coordinates = new double[3][size];
+        for (int i = 0; i < size; i++) {
+            double latitude = Math.toRadians(latitudes[i]);
+            double longitude = Math.toRadians(longitudes[i]);
+            coordinates[0][i] = Math.cos(latitude) * Math.cos(longitude);
+            coordinates[1][i] = Math.cos(latitude) * Math.sin(longitude);
+            coordinates[2][i] = Math.sin(latitude);
+        }
+
+        // 중앙값 분할이므로 리프에는 최소 LEAF_SIZE / 2개의 점이 들어감
+        int maxNodes = Math.max(1, 2 * size / (LEAF_SIZE / 2) + 1);
+        this.nodeLo = new int[maxNodes];
+        this.nodeHi = new int[maxNodes];
+        this.nodeLeft = new int[maxNodes];
+        this.nodeRight = new int[maxNodes];
+        this.nodeMin = new double[3][maxNodes];
+        this.nodeMax = new double[3][maxNodes];
+        if (size > 0) {
+            build(0, size);
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // Description : (afterDistance, afterId) 커서 이후로 가까운 식당 limit개 조회 - 거리 오름차순, 같은 거리는 id 오름차순
+    public List<Neighbor> nearest(double latitude, double longitude, int limit, Double afterDistance, Long afterId) {
+        List<Neighbor> neighbors = new ArrayList<>(limit);
+        if (ids.length == 0 || limit <= 0) {
+            return neighbors;
+        }
+
+        double[] query = toUnitVector(latitude, longitude);
+        // 부동소수점 오차로 같은 거리의 노드가 잘리지 않도록 약간 여유를 둠
+        double afterChord = afterDistance == null ? -1 : toChordSquared(afterDistance) * (1 - 1e-9);
+
+        // 노드와 점을 한 큐에 넣고 가까운 순으로 꺼냄 (incremental nearest neighbor)
+        PriorityQueue<Entry> queue = new PriorityQueue<>();
+        queue.add(new Entry(minDistanceSquared(0, query), 0, -1));
+
+        while (!queue.isEmpty() && neighbors.size() < limit) {
+            Entry entry = queue.poll();
+            if (entry.id() >= 0) {
+                double distance = toDistance(entry.distanceSquared());
+                if (isAfterCursor(distance, ids[entry.index()], afterDistance, afterId)) {
+                    neighbors.add(new Neighbor(ids[entry.index()], distance));
+                }
+                continue;
+            }
+
+            int node = entry.index();
+            // 노드 전체가 커서보다 가까우면 건너뜀
+            if (maxDistanceSquared(node, query) < afterChord) {
+                continue;
+            }
+            if (nodeLeft[node] < 0) {
+                for (int i = nodeLo[node]; i < nodeHi[node]; i++) {
+                    queue.add(new Entry(distanceSquared(i, query), i, ids[i]));
+                }
+            } else {
+                queue.add(new Entry(minDistanceSquared(nodeLeft[node], query), nodeLeft[node], -1));
+                queue.add(new Entry(minDistanceSquared(nodeRight[node], query), nodeRight[node], -1));
+            }
+        }
+        return neighbors;
+    }
+
+    private boolean isAfterCursor(double distance, long id, Double afterDistance, Long afterId) {
+        if (afterDistance == null) {
+            return true;
+        }
+        int compare = Double.compare(distance, afterDistance);
+        return compare > 0 || (compare == 0 && afterId != null && id > afterId);
+    }
+
+    private int build(int lo, int hi) {
+        int node = nodeCount++;
+        nodeLo[node] = lo;
+        nodeHi[node] = hi;
+        nodeLeft[node] = -1;
+        nodeRight[node] = -1;
+
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                min = Math.min(min, coordinates[axis][i]);
+                max = Math.max(max, coordinates[axis][i]);
+            }
+            nodeMin[axis][node] = min;
+            nodeMax[axis][node] = max;
+        }
+
+        if (hi - lo > LEAF_SIZE) {
+            // 가장 넓게 퍼진 축을 기준으로 중앙값 분할
+            int axis = 0;
+            for (int candidate = 1; candidate < 3; candidate++) {
+                if (nodeMax[candidate][node] - nodeMin[candidate][node] > nodeMax[axis][node] - nodeMin[axis][node]) {
+                    axis = candidate;
+                }
+            }
+            int mid = (lo + hi) >>> 1;
+            select(axis, lo, hi - 1, mid);
+            nodeLeft[node] = build(lo, mid);
+            nodeRight[node] = build(mid, hi);
+        }
+        return node;
+    }
+
+    // quickselect : k번째 원소가 제자리에 오도록 부분 정렬
+    private void select(int axis, int left, int right, int k) {
+        double[] values = coordinates[axis];
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        for (double[] axis : coordinates) {
+            double value = axis[i];
+            axis[i] = axis[j];
+            axis[j] = value;
+        }
+    }
+
+    private double distanceSquared(int point, double[] query) {
+        double sum = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double d = coordinates[axis][point] - query[axis];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    private double minDistanceSquared(int node, double[] query) {
+        double sum = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double d = Math.max(0, Math.max(nodeMin[axis][node] - query[axis], query[axis] - nodeMax[axis][node]));
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    private double maxDistanceSquared(int node, double[] query) {
+        double sum = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double d = Math.max(Math.abs(query[axis] - nodeMin[axis][node]), Math.abs(query[axis] - nodeMax[axis][node]));
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double latitudeRadian = Math.toRadians(latitude);
+        double longitudeRadian = Math.toRadians(longitude);
+        return new double[] {
+                Math.cos(latitudeRadian) * Math.cos(longitudeRadian),
+                Math.cos(latitudeRadian) * Math.sin(longitudeRadian),
+                Math.sin(latitudeRadian)
+        };
+    }
+
+    // 현 거리(제곱) -> 대원 거리(km)
+    private static double toDistance(double chordSquared) {
+        double chord = Math.sqrt(chordSquared);
+        return 2 * EARTH_RADIUS * Math.asin(Math.min(1, chord / 2));
+    }
+
+    // 대원 거리(km) -> 현 거리(제곱)
+    private static double toChordSquared(double distance) {
+        double chord = 2 * Math.sin(Math.min(Math.PI / 2, distance / (2 * EARTH_RADIUS)));
+        return chord * chord;
+    }
+
+    public record Neighbor(long id, double distance) {
+    }
+
+    // id가 -1이면 노드, 그 외에는 점 - 같은 거리에서는 노드를 먼저, 점은 id 오름차순으로 꺼냄
+    private record Entry(double distanceSquared, int index, long id) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int compare = Double.compare(distanceSquared, other.distanceSquared);
+            return compare != 0 ? compare : Long.compare(id, other.id);
+        }
+    }
+}
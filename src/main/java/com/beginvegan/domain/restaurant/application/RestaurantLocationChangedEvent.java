@@ -0,0 +1,9 @@
+package com.beginvegan.domain.restaurant.application;
+
+// Description : 공간 인덱스의 식당 위치/정보 변경 이벤트 - previous가 null이면 추가, current가 null이면 삭제
+public record RestaurantLocationChangedEvent(RestaurantSpatialIndex.Point previous, RestaurantSpatialIndex.Point current) {
+
+    public static RestaurantLocationChangedEvent of(RestaurantSpatialIndex.Point previous, RestaurantSpatialIndex.Point current) {
+        return new RestaurantLocationChangedEvent(previous, current);
+    }
+}
@@ -0,0 +1,375 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.Address;
+import com.beginvegan.domain.restaurant.domain.Menu;
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import com.beginvegan.domain.restaurant.domain.repository.MenuRepository;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Description : 식당 검색용 역색인 - 식당 이름, 주소, 카테고리, 메뉴 이름을 1글자 / 2글자(bigram) 단위로 색인
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSearchIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final MenuRepository menuRepository;
+    private final RestaurantSearchQueryParser restaurantSearchQueryParser;
+    private final RestaurantSuggestIndex restaurantSuggestIndex;
+
+    // 카테고리 필터용 토큰 접두어 - 2글자 토큰과 겹치지 않음
+    private static final String TYPE_TOKEN_PREFIX = "#type:";
+
+    // 식당 id -> 색인된 문서
+    private volatile Map<Long, Document> documents = new ConcurrentHashMap<>();
+    // 토큰(1글자, 2글자) -> 토큰을 포함하는 식당 id
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 정렬용 리뷰 수 / 스크랩 수
+    private volatile Map<Long, Long> reviewCounts = new HashMap<>();
+    private volatile Map<Long, Long> bookmarkCounts = new HashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    public enum SearchOrder {
+        REVIEW, SCRAP, DISTANCE
+    }
+
+    // 서버 시작 시 전체 색인 - 새 맵에 색인한 뒤 교체하므로 색인 중에도 이전 결과로 검색 가능
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Map<Long, Document> newDocuments = new ConcurrentHashMap<>();
+        Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+        for (Restaurant restaurant : restaurantRepository.findAllWithMenus()) {
+            Document document = Document.of(restaurant);
+            newDocuments.put(document.id(), document);
+            addPostings(newPostings, document);
+        }
+        documents = newDocuments;
+        postings = newPostings;
+        refreshRegions();
+        refreshCounts();
+        refreshSuggestions();
+        lastSyncedAt = syncedAt;
+
+        log.info("Restaurant search index built : {} restaurants, {} tokens", newDocuments.size(), newPostings.size());
+    }
+
+    // 변경된 식당 / 메뉴만 다시 색인, 식당 수가 달라졌으면 (삭제 등) 전체 재색인
+    @Scheduled(fixedDelayString = "${restaurant.search-index.refresh-delay:300000}")
+    public void refresh() {
+        if (lastSyncedAt == null || restaurantRepository.count() != documents.size()) {
+            rebuild();
+            return;
+        }
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Set<Long> changedIds = new HashSet<>(menuRepository.findRestaurantIdsByModifiedDateAfter(lastSyncedAt));
+        restaurantRepository.findByModifiedDateAfter(lastSyncedAt).forEach(restaurant -> changedIds.add(restaurant.getId()));
+        if (!changedIds.isEmpty()) {
+            restaurantRepository.findAllWithMenusByIdIn(changedIds).forEach(this::put);
+            refreshRegions();
+        }
+        refreshCounts();
+        refreshSuggestions();
+        lastSyncedAt = syncedAt;
+    }
+
+    // 식당 추가 / 변경 반영
+    public synchronized void put(Restaurant restaurant) {
+        Document document = Document.of(restaurant);
+        Document previous = documents.put(document.id(), document);
+        if (previous != null) {
+            removePostings(postings, previous);
+        }
+        addPostings(postings, document);
+    }
+
+    public synchronized void remove(Long restaurantId) {
+        Document previous = documents.remove(restaurantId);
+        if (previous != null) {
+            removePostings(postings, previous);
+        }
+    }
+
+    // Description : 검색 조건에 맞는 식당 id를 정렬 순서대로 조회
+    public List<Long> search(RestaurantSearchQuery query, SearchOrder searchOrder, double userLatitude, double userLongitude) {
+        List<Match> matches = new ArrayList<>();
+        for (Long id : candidates(query)) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            // 토큰은 후보만 좁히므로 실제로 조건에 맞는지 다시 확인
+            int priority = document.priority(query);
+            if (priority > 0) {
+                matches.add(new Match(document, priority));
+            }
+        }
+
+        matches.sort(comparator(searchOrder, userLatitude, userLongitude));
+        return matches.stream().map(match -> match.document().id()).toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 가장 좁은 조건(검색어 > 지역 > 카테고리)의 토큰으로 후보 조회
+    private Collection<Long> candidates(RestaurantSearchQuery query) {
+        if (!query.keywords().isEmpty()) {
+            Set<Long> result = null;
+            for (String keyword : query.keywords()) {
+                Set<Long> keywordCandidates = candidates(keyword);
+                if (result == null) {
+                    result = keywordCandidates;
+                } else {
+                    result.retainAll(keywordCandidates);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+        if (!query.regions().isEmpty()) {
+            return candidates(query.regions().iterator().next());
+        }
+        if (!query.restaurantTypes().isEmpty()) {
+            Set<Long> result = new HashSet<>();
+            for (RestaurantType restaurantType : query.restaurantTypes()) {
+                result.addAll(postings.getOrDefault(TYPE_TOKEN_PREFIX + restaurantType.name(), Collections.emptySet()));
+            }
+            return result;
+        }
+        return documents.keySet();
+    }
+
+    // 검색어의 토큰을 모두 포함하는 식당 id - 가장 짧은 목록부터 교집합
+    private Set<Long> candidates(String keyword) {
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (String token : tokenize(keyword, keyword.length() == 1)) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            postingLists.add(posting);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingLists.get(i));
+        }
+        return result;
+    }
+
+    private Comparator<Match> comparator(SearchOrder searchOrder, double userLatitude, double userLongitude) {
+        Comparator<Match> byName = Comparator.comparing(match -> match.document().name(), Comparator.nullsLast(Comparator.naturalOrder()));
+        Comparator<Match> byPriority = Comparator.comparingInt(Match::priority);
+
+        if (searchOrder == SearchOrder.DISTANCE) {
+            GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(userLatitude, userLongitude);
+            Map<Long, Double> distances = new HashMap<>();
+            return Comparator.<Match>comparingDouble(match -> distances.computeIfAbsent(match.document().id(),
+                            id -> match.document().distance(geoDistanceCalculator)))
+                    .thenComparing(byName);
+        }
+        Map<Long, Long> counts = searchOrder == SearchOrder.SCRAP ? bookmarkCounts : reviewCounts;
+        return Comparator.<Match>comparingLong(match -> -counts.getOrDefault(match.document().id(), 0L))
+                .thenComparing(byPriority)
+                .thenComparing(byName);
+    }
+
+    // 색인된 주소의 시/도, 시/군/구 이름을 검색어 사전에 반영
+    private void refreshRegions() {
+        Set<String> regions = new HashSet<>();
+        documents.values().forEach(document -> regions.addAll(document.regions()));
+        restaurantSearchQueryParser.updateRegions(regions);
+    }
+
+    // 자동완성 트라이는 리뷰 수 순위를 미리 계산하므로 색인 / 리뷰 수가 갱신될 때마다 다시 생성
+    private void refreshSuggestions() {
+        Map<Long, Long> counts = reviewCounts;
+        List<RestaurantSuggestIndex.Source> sources = new ArrayList<>();
+        for (Document document : documents.values()) {
+            sources.add(new RestaurantSuggestIndex.Source(document.id(), document.name(), document.menuNames(),
+                    document.regionNames(), counts.getOrDefault(document.id(), 0L)));
+        }
+        restaurantSuggestIndex.rebuild(sources);
+    }
+
+    // 리뷰 수 / 스크랩 수는 식당 컬럼에서 한 번에 조회
+    private void refreshCounts() {
+        Map<Long, Long> newReviewCounts = new HashMap<>();
+        Map<Long, Long> newBookmarkCounts = new HashMap<>();
+        for (Object[] row : restaurantRepository.findAllCounts()) {
+            newReviewCounts.put((Long) row[0], ((Integer) row[1]).longValue());
+            newBookmarkCounts.put((Long) row[0], ((Integer) row[2]).longValue());
+        }
+        reviewCounts = newReviewCounts;
+        bookmarkCounts = newBookmarkCounts;
+    }
+
+    private static void addPostings(Map<String, Set<Long>> postings, Document document) {
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, Document document) {
+        for (String token : document.tokens()) {
+            postings.computeIfPresent(token, (key, posting) -> {
+                posting.remove(document.id());
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    // 한글은 형태소 분석 없이도 2글자 단위가 부분 일치 검색에 잘 맞음 - 1글자 검색어를 위해 1글자 토큰도 색인
+    private static Set<String> tokenize(String text, boolean unigram) {
+        Set<String> tokens = new HashSet<>();
+        if (unigram || text.length() == 1) {
+            for (int i = 0; i < text.length(); i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private record Match(Document document, int priority) {
+    }
+
+    // 검색 대상 필드는 소문자로 저장, 자동완성용 메뉴 / 지역 이름은 원본 그대로 저장
+    private record Document(Long id, String name, RestaurantType restaurantType, Set<String> regions,
+                            List<String> addresses, List<String> types, List<String> menus,
+                            List<String> menuNames, List<String> regionNames,
+                            Double latitude, Double longitude) {
+
+        static Document of(Restaurant restaurant) {
+            List<String> addresses = new ArrayList<>();
+            List<String> regionNames = new ArrayList<>();
+            Address address = restaurant.getAddress();
+            if (address != null) {
+                addIfPresent(addresses, address.getProvince());
+                addIfPresent(addresses, address.getCity());
+                for (String regionName : new String[] {address.getProvince(), address.getCity()}) {
+                    if (regionName != null && !regionName.isBlank()) {
+                        regionNames.add(regionName);
+                    }
+                }
+            }
+            // 지역 필터는 시/도, 시/군/구 이름과 정확히 일치하는지로 판단
+            Set<String> regions = new HashSet<>(addresses);
+            if (address != null) {
+                addIfPresent(addresses, address.getRoadName());
+            }
+            // 카테고리는 enum 이름(CAFE)과 한글 이름(카페) 모두 색인
+            List<String> types = new ArrayList<>();
+            if (restaurant.getRestaurantType() != null) {
+                addIfPresent(types, restaurant.getRestaurantType().name());
+                addIfPresent(types, restaurant.getRestaurantType().getValue());
+            }
+            List<String> menus = new ArrayList<>();
+            List<String> menuNames = new ArrayList<>();
+            if (restaurant.getMenus() != null) {
+                for (Menu menu : restaurant.getMenus()) {
+                    addIfPresent(menus, menu.getName());
+                    if (menu.getName() != null && !menu.getName().isBlank()) {
+                        menuNames.add(menu.getName());
+                    }
+                }
+            }
+            return new Document(restaurant.getId(), restaurant.getName(), restaurant.getRestaurantType(), regions,
+                    addresses, types, menus, menuNames, regionNames,
+                    restaurant.getLatitude(), restaurant.getLongitude());
+        }
+
+        private static void addIfPresent(List<String> fields, String value) {
+            if (value != null && !value.isBlank()) {
+                fields.add(value.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new HashSet<>();
+            if (name != null) {
+                tokens.addAll(tokenize(name.toLowerCase(Locale.ROOT), true));
+            }
+            for (List<String> fields : List.of(addresses, types, menus)) {
+                fields.forEach(field -> tokens.addAll(tokenize(field, true)));
+            }
+            if (restaurantType != null) {
+                tokens.add(TYPE_TOKEN_PREFIX + restaurantType.name());
+            }
+            return tokens;
+        }
+
+        // 카테고리 / 지역 필터를 모두 만족하고 모든 검색어를 포함하면 가장 낮은 일치 우선순위, 아니면 0
+        int priority(RestaurantSearchQuery query) {
+            if (!query.restaurantTypes().isEmpty() && !query.restaurantTypes().contains(restaurantType)) {
+                return 0;
+            }
+            if (!regions.containsAll(query.regions())) {
+                return 0;
+            }
+            if (query.keywords().isEmpty()) {
+                return query.restaurantTypes().isEmpty() || !query.regions().isEmpty() ? 1 : 2;
+            }
+            int priority = 1;
+            for (String keyword : query.keywords()) {
+                int keywordPriority = priority(keyword);
+                if (keywordPriority == 0) {
+                    return 0;
+                }
+                priority = Math.max(priority, keywordPriority);
+            }
+            return priority;
+        }
+
+        // 일치 우선순위 : 주소 1, 카테고리 2, 이름 / 메뉴 3, 일치하지 않으면 0
+        int priority(String keyword) {
+            if (containsIn(addresses, keyword)) {
+                return 1;
+            }
+            if (containsIn(types, keyword)) {
+                return 2;
+            }
+            if ((name != null && name.toLowerCase(Locale.ROOT).contains(keyword)) || containsIn(menus, keyword)) {
+                return 3;
+            }
+            return 0;
+        }
+
+        private static boolean containsIn(List<String> fields, String keyword) {
+            for (String field : fields) {
+                if (field.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 좌표가 없는 식당은 가장 뒤로
+        double distance(GeoDistanceCalculator geoDistanceCalculator) {
+            if (latitude == null || longitude == null) {
+                return Double.MAX_VALUE;
+            }
+            return geoDistanceCalculator.distance(latitude, longitude);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+
+import java.util.List;
+import java.util.Set;
+
+// Description : 검색어를 구조화한 결과 - 카테고리 / 지역 필터와 나머지 검색어(메뉴, 이름 등)
+public record RestaurantSearchQuery(Set<RestaurantType> restaurantTypes, Set<String> regions, List<String> keywords) {
+
+    public boolean isEmpty() {
+        return restaurantTypes.isEmpty() && regions.isEmpty() && keywords.isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// Description : 검색어 정규화 - 카테고리 / 동의어 / 지역 사전을 trie로 미리 만들어 두고 검색어를 한 번 훑어 필터로 변환
+@Slf4j
+@Component
+public class RestaurantSearchQueryParser {
+
+    // 지역명 뒤에 붙는 행정구역 단위 - 떼어낸 이름(강남구 -> 강남)도 사전에 등록
+    private static final List<String> REGION_SUFFIXES = List.of("특별자치시", "특별자치도", "특별시", "광역시", "도", "시", "군", "구");
+
+    // 동의어 -> 카테고리 (형식 : 동의어=RestaurantType 이름)
+    @Value("${restaurant.search.synonyms:커피=CAFE,커피숍=CAFE,디저트=CAFE,빵집=BAKERY,제과점=BAKERY,중국집=CHINESE,중국=CHINESE,일본=JAPANESE,한국=KOR,서양=WESTERN}")
+    private List<String> synonyms;
+
+    private volatile Node root = new Node();
+    private volatile Set<String> regions = Set.of();
+
+    @PostConstruct
+    public void init() {
+        root = buildDictionary(regions);
+    }
+
+    // 색인된 식당 주소의 시/도, 시/군/구 이름으로 지역 사전 갱신
+    public synchronized void updateRegions(Collection<String> regionNames) {
+        Set<String> newRegions = new HashSet<>(regionNames);
+        if (newRegions.equals(regions)) {
+            return;
+        }
+        root = buildDictionary(newRegions);
+        regions = newRegions;
+    }
+
+    // Description : 검색어를 카테고리 / 지역 / 나머지 검색어로 분리 - 겹치는 사전 단어는 가장 긴 것을 사용
+    public RestaurantSearchQuery parse(String searchWord) {
+        String text = searchWord == null ? "" : searchWord.trim().toLowerCase(Locale.ROOT);
+        Node dictionary = root;
+
+        Set<RestaurantType> restaurantTypes = EnumSet.noneOf(RestaurantType.class);
+        Set<String> matchedRegions = new LinkedHashSet<>();
+        List<String> keywords = new ArrayList<>();
+        StringBuilder fragment = new StringBuilder();
+        boolean matched = false;
+
+        int position = 0;
+        while (position < text.length()) {
+            Node node = dictionary;
+            Term term = null;
+            int termEnd = position;
+            for (int i = position; i < text.length(); i++) {
+                node = node.children.get(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.term != null && isWordBoundary(text, position, i + 1)) {
+                    term = node.term;
+                    termEnd = i + 1;
+                }
+            }
+
+            if (term == null) {
+                fragment.append(text.charAt(position++));
+                continue;
+            }
+            addKeywords(fragment, keywords);
+            if (term.restaurantType() != null) {
+                restaurantTypes.add(term.restaurantType());
+            } else {
+                matchedRegions.add(term.region());
+            }
+            matched = true;
+            position = termEnd;
+        }
+        addKeywords(fragment, keywords);
+
+        // 사전 단어에 붙어 남은 한 글자 (한식'당', 강남'역' 등)는 검색어로 쓰지 않음
+        if (matched) {
+            keywords.removeIf(keyword -> keyword.length() < 2);
+        }
+        return new RestaurantSearchQuery(restaurantTypes, matchedRegions, keywords);
+    }
+
+    // 영문 / 숫자로 시작하거나 끝나는 사전 단어는 단어 단위로만 매칭 (sketch 안의 etc 등 제외) - 한글은 조사 / 접미사가 붙으므로 부분 매칭 허용
+    private boolean isWordBoundary(String text, int start, int end) {
+        boolean startsAtBoundary = !isAsciiLetterOrDigit(text.charAt(start)) || start == 0 || !isAsciiLetterOrDigit(text.charAt(start - 1));
+        boolean endsAtBoundary = !isAsciiLetterOrDigit(text.charAt(end - 1)) || end == text.length() || !isAsciiLetterOrDigit(text.charAt(end));
+        return startsAtBoundary && endsAtBoundary;
+    }
+
+    private boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private void addKeywords(StringBuilder fragment, List<String> keywords) {
+        for (String keyword : fragment.toString().split("\\s+")) {
+            if (!keyword.isEmpty()) {
+                keywords.add(keyword);
+            }
+        }
+        fragment.setLength(0);
+    }
+
+    private Node buildDictionary(Set<String> regionNames) {
+        Node dictionary = new Node();
+        // 지역을 먼저 넣고 카테고리로 덮어써서 같은 단어는 카테고리로 해석
+        for (String region : regionNames) {
+            if (region == null || region.isBlank()) {
+                continue;
+            }
+            String normalizedRegion = region.trim().toLowerCase(Locale.ROOT);
+            Term term = new Term(null, normalizedRegion);
+            insert(dictionary, normalizedRegion, term);
+            for (String suffix : REGION_SUFFIXES) {
+                if (normalizedRegion.endsWith(suffix) && normalizedRegion.length() - suffix.length() >= 2) {
+                    insert(dictionary, normalizedRegion.substring(0, normalizedRegion.length() - suffix.length()), term);
+                    break;
+                }
+            }
+        }
+        for (RestaurantType restaurantType : RestaurantType.values()) {
+            insert(dictionary, restaurantType.getValue(), new Term(restaurantType, null));
+            insert(dictionary, restaurantType.name().toLowerCase(Locale.ROOT), new Term(restaurantType, null));
+        }
+        for (String synonym : synonyms) {
+            String[] pair = synonym.split("=");
+            if (pair.length != 2) {
+                log.warn("Invalid restaurant search synonym : {}", synonym);
+                continue;
+            }
+            try {
+                insert(dictionary, pair[0].trim().toLowerCase(Locale.ROOT), new Term(RestaurantType.valueOf(pair[1].trim()), null));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid restaurant search synonym : {}", synonym);
+            }
+        }
+        return dictionary;
+    }
+
+    private void insert(Node dictionary, String word, Term term) {
+        if (word.isEmpty()) {
+            return;
+        }
+        Node node = dictionary;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), key -> new Node());
+        }
+        node.term = term;
+    }
+
+    private record Term(RestaurantType restaurantType, String region) {
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Term term;
+    }
+}
@@ -3,10 +3,7 @@ package com.beginvegan.domain.restaurant.application;
 import com.beginvegan.domain.bookmark.domain.Bookmark;
 import com.beginvegan.domain.bookmark.domain.repository.BookmarkRepository;
 import com.beginvegan.domain.bookmark.domain.repository.ContentType;
-import com.beginvegan.domain.common.Status;
 import com.beginvegan.domain.image.domain.Image;
-import com.beginvegan.domain.image.domain.repository.ImageRepository;
-import com.beginvegan.domain.recommendation.domain.repository.RecommendationRepository;
 import com.beginvegan.domain.restaurant.domain.Menu;
 import com.beginvegan.domain.restaurant.domain.Restaurant;
 import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
@@ -16,6 +13,7 @@ import com.beginvegan.domain.restaurant.dto.request.RestaurantDetailReq;
 import com.beginvegan.domain.restaurant.dto.request.SearchRestaurantReq;
 import com.beginvegan.domain.restaurant.dto.response.*;
 import com.beginvegan.domain.restaurant.exception.InvalidRestaurantException;
+import com.beginvegan.domain.review.application.ReviewBatchLoader;
 import com.beginvegan.domain.review.domain.Review;
 import com.beginvegan.domain.review.domain.ReviewType;
 import com.beginvegan.domain.review.domain.repository.ReviewRepository;
@@ -28,7 +26,11 @@ import com.beginvegan.domain.user.dto.UserRestaurantDetailRes;
 import com.beginvegan.domain.user.exception.InvalidUserException;
 import com.beginvegan.global.DefaultAssert;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.error.DefaultException;
+import com.beginvegan.global.payload.ErrorCode;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.Message;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -39,6 +41,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidParameterException;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -48,17 +51,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RestaurantService {
 
+    // 페이지 기반 가까운 순 조회의 최대 페이지 - 페이지마다 (page + 1) * 10개를 찾으므로 상한을 둠 (더 먼 식당은 커서 기반 조회 사용)
+    private static final int MAX_AROUND_PAGE = 99;
+
     private final RestaurantRepository restaurantRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final ImageRepository imageRepository;
-    private final RecommendationRepository recommendationRepository;
 
     private final UserService userService;
+    private final ReviewBatchLoader reviewBatchLoader;
+    private final RestaurantSpatialIndex restaurantSpatialIndex;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final RestaurantSearchQueryParser restaurantSearchQueryParser;
+    private final RestaurantSuggestIndex restaurantSuggestIndex;
 
-    // 지구의 반지름
-    private static final int EARTH_RADIUS = 6371;
 
     public ResponseEntity<?> findRestaurantById(UserPrincipal userPrincipal, Long restaurantId, String latitude, String longitude) {
 
@@ -73,12 +80,7 @@ public class RestaurantService {
         double userLatitude = Double.parseDouble(latitude);
         double userLongitude = Double.parseDouble(longitude);
 
-        double restaurantLatitude = Double.parseDouble(restaurant.getLatitude());
-        double restaurantLongitude = Double.parseDouble(restaurant.getLongitude());
-
-        double distance = calculateDistance(userLatitude, userLongitude, restaurantLatitude, restaurantLongitude);
-
-        int reviewCount = reviewRepository.countAllByRestaurant(restaurant);
+        double distance = calculateDistance(userLatitude, userLongitude, restaurant.getLatitude(), restaurant.getLongitude());
 
         RestaurantDetailRes restaurantDetailRes = RestaurantDetailRes.builder()
                 .restaurantId(restaurant.getId())
@@ -88,7 +90,7 @@ public class RestaurantService {
                 .address(restaurant.getAddress())
                 .distance(distance)
                 .rate(restaurant.getRate())
-                .reviewCount(reviewCount)
+                .reviewCount(restaurant.getReviewCount())
                 .isBookmark(findBookmark.isPresent())
                 .contactNumber(restaurant.getContactNumber())
                 .build();
@@ -144,42 +146,11 @@ public class RestaurantService {
 
 
         List<Review> reviews = reviewPage.getContent();
+        // 작성자, 이미지, 추천 수, 추천 여부를 페이지 단위로 한 번에 조회
+        ReviewBatchLoader.ReviewBatch reviewBatch = reviewBatchLoader.load(user, reviews);
         List<RestaurantReviewDetailRes> restaurantReviewDetailResList = new ArrayList<>();
         for (Review review : reviews) {
-            // 리뷰 이미지
-            List<String> imageUrlList = new ArrayList<>();
-            if (review.getReviewType().equals(ReviewType.PHOTO)) {
-                List<Image> imageList = imageRepository.findByReview(review);
-                for (Image image : imageList) {
-                    imageUrlList.add(image.getImageUrl());
-                }
-            }
-
-            // 리뷰 작성 유저
-            User reviewUser = review.getUser();
-            UserRestaurantDetailRes userRestaurantDetailRes = UserRestaurantDetailRes.builder()
-                    .userId(reviewUser.getId())
-                    .imageUrl(reviewUser.getImageUrl())
-                    .nickname(reviewUser.getNickname())
-                    .userCode(reviewUser.getUserCode())
-                    .level((reviewUser.getUserLevel().toString()))
-                    .build();
-
-            // 최종 응답
-            RestaurantReviewDetailRes restaurantReviewDetailRes = RestaurantReviewDetailRes.builder()
-                    .reviewId(review.getId())
-                    .user(userRestaurantDetailRes)
-                    .reviewType(review.getReviewType())
-                    .imageUrl(imageUrlList)
-                    .rate(restaurant.getRate())
-                    .content(review.getContent())
-                    .visible(review.getVisible())
-                    .date(review.getModifiedDate().toLocalDate())
-                    .recommendationCount(recommendationRepository.countByReviewAndStatus(review, Status.ACTIVE)) // 추천 개수
-                    .isRecommendation(recommendationRepository.existsByUserAndReviewAndStatus(user, review, Status.ACTIVE))
-                    .build();
-            restaurantReviewDetailResList.add(restaurantReviewDetailRes);
-
+            restaurantReviewDetailResList.add(toRestaurantReviewDetailRes(restaurant, review, reviewBatch));
         }
 
         ReviewListRes reviewListRes = ReviewListRes.builder()
@@ -195,6 +166,67 @@ public class RestaurantService {
         return ResponseEntity.ok(apiResponse);
     }
 
+    // Description : 식당 리뷰 커서 조회 (최신순) - offset / count 없이 커서 위치부터 10개
+    public ResponseEntity<?> findRestaurantReviewsByIdByCursor(UserPrincipal userPrincipal, Long restaurantId, Boolean isPhoto, String cursor) {
+
+        User user = userRepository.findById(userPrincipal.getId())
+                .orElseThrow(InvalidUserException::new);
+
+        Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                .orElseThrow(InvalidRestaurantException::new);
+
+        Cursor position = Cursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest pageable = PageRequest.of(0, 11);
+        List<Review> reviews = isPhoto ?
+                reviewRepository.findReviewsByRestaurantAndReviewTypeAfterCursor(restaurant, ReviewType.PHOTO, position.dateTime(), position.id(), pageable) :
+                reviewRepository.findReviewsByRestaurantAfterCursor(restaurant, position.dateTime(), position.id(), pageable);
+        CursorSlice<Review> reviewSlice = CursorSlice.of(reviews, 10, review -> Cursor.of(review.getModifiedDate(), review.getId()));
+
+        ReviewBatchLoader.ReviewBatch reviewBatch = reviewBatchLoader.load(user, reviewSlice.contents());
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(reviewSlice.map(review -> toRestaurantReviewDetailRes(restaurant, review, reviewBatch)))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    private RestaurantReviewDetailRes toRestaurantReviewDetailRes(Restaurant restaurant, Review review, ReviewBatchLoader.ReviewBatch reviewBatch) {
+        // 리뷰 이미지
+        List<String> imageUrlList = new ArrayList<>();
+        if (review.getReviewType().equals(ReviewType.PHOTO)) {
+            for (Image image : reviewBatch.imagesOf(review)) {
+                imageUrlList.add(image.getImageUrl());
+            }
+        }
+
+        // 리뷰 작성 유저
+        User reviewUser = review.getUser();
+        UserRestaurantDetailRes userRestaurantDetailRes = UserRestaurantDetailRes.builder()
+                .userId(reviewUser.getId())
+                .imageUrl(reviewUser.getImageUrl())
+                .nickname(reviewUser.getNickname())
+                .userCode(reviewUser.getUserCode())
+                .level((reviewUser.getUserLevel().toString()))
+                .build();
+
+        // 최종 응답
+        return RestaurantReviewDetailRes.builder()
+                .reviewId(review.getId())
+                .user(userRestaurantDetailRes)
+                .reviewType(review.getReviewType())
+                .imageUrl(imageUrlList)
+                .rate(restaurant.getRate())
+                .content(review.getContent())
+                .visible(review.getVisible())
+                .date(review.getModifiedDate().toLocalDate())
+                .recommendationCount(review.getRecommendationCount()) // 추천 개수
+                .isRecommendation(reviewBatch.isRecommendedBy(review))
+                .build();
+    }
+
     // TODO : 스크랩 변경사항 때문에 스크랩 로직 변경 필요 --------------------------------------------------------------------------------------------------------------------------------
     @Transactional
     public ResponseEntity<?> scrapRestaurant(UserPrincipal userPrincipal, Long restaurantId) {
@@ -246,41 +278,37 @@ public class RestaurantService {
 
     public ResponseEntity<?> findAroundRestaurant(LocationReq locationReq) {
 
-        List<Restaurant> nearRestaurants = restaurantRepository.findAllWithMenus();
-
         List<AroundRestaurantListRes> restaurantDtos = new ArrayList<>();
 
         double userLatitude = Double.parseDouble(locationReq.getLatitude());
         double userLongitude = Double.parseDouble(locationReq.getLongitude());
 
-        if(!nearRestaurants.isEmpty()) {
+        // 5km 안에 있는 식당들만 조회
+        List<Long> nearRestaurantIds = restaurantSpatialIndex.findIdsWithinRadius(userLatitude, userLongitude, 5);
+
+        if(!nearRestaurantIds.isEmpty()) {
+            List<Restaurant> nearRestaurants = new ArrayList<>(restaurantRepository.findAllWithMenusByIdIn(nearRestaurantIds));
+            nearRestaurants.sort(Comparator.comparing(Restaurant::getId));
+
             for (Restaurant nearRestaurant : nearRestaurants) {
-                double restaurantLatitude = Double.parseDouble(nearRestaurant.getLatitude());
-                double restaurantLongitude = Double.parseDouble(nearRestaurant.getLongitude());
-
-                double distance = calculateDistance(userLatitude, userLongitude, restaurantLatitude, restaurantLongitude);
-
-                // 5km 안에 있는 식당들만 포함
-                if (distance <= 5) {
-                    List<MenuDto> menuDtos = nearRestaurant.getMenus().stream()
-                            .map(menu -> MenuDto.builder()
-                                    .id(menu.getId())
-//                                    .imageUrl(menu.getImageUrl())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    AroundRestaurantListRes aroundRestaurantListRes = AroundRestaurantListRes.builder()
-                            .id(nearRestaurant.getId())
-                            .name(nearRestaurant.getName())
-                            .address(nearRestaurant.getAddress())
-                            .latitude(nearRestaurant.getLatitude())
-                            .longitude(nearRestaurant.getLongitude())
-//                            .imageUrl(nearRestaurant.getImageUrl())
-                            .menus(menuDtos)
-                            .build();
-
-                    restaurantDtos.add(aroundRestaurantListRes);
-                }
+                List<MenuDto> menuDtos = nearRestaurant.getMenus().stream()
+                        .map(menu -> MenuDto.builder()
+                                .id(menu.getId())
+//                                .imageUrl(menu.getImageUrl())
+                                .build())
+                        .collect(Collectors.toList());
+
+                AroundRestaurantListRes aroundRestaurantListRes = AroundRestaurantListRes.builder()
+                        .id(nearRestaurant.getId())
+                        .name(nearRestaurant.getName())
+                        .address(nearRestaurant.getAddress())
+                        .latitude(String.valueOf(nearRestaurant.getLatitude()))
+                        .longitude(String.valueOf(nearRestaurant.getLongitude()))
+//                        .imageUrl(nearRestaurant.getImageUrl())
+                        .menus(menuDtos)
+                        .build();
+
+                restaurantDtos.add(aroundRestaurantListRes);
             }
         }
 
@@ -299,189 +327,215 @@ public class RestaurantService {
 
         User user = userService.validateUserById(userPrincipal.getId());
 
-        List<Restaurant> restaurants = restaurantRepository.findAll();
-        List<RandomRestaurantRes> restaurantResList = new ArrayList<>();
+        // 메모리 인덱스의 id 배열에서 count개(3개)만 추려 해당 식당만 조회
+        List<Long> randomRestaurantIds = restaurantSpatialIndex.sampleIds(count.intValue());
+        List<RandomRestaurantRes> restaurantResList = toRandomRestaurantResList(user, randomRestaurantIds);
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(restaurantResList)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+
+    }
+
+    // home - 권한 동의 o, 10km 이내 랜덤 식당 3개 조회
+    public ResponseEntity<?> findRandomRestaurantWithPermission(UserPrincipal userPrincipal, Long count, String latitude, String longitude) {
+
+        User user = userService.validateUserById(userPrincipal.getId());
+
+        double userLatitude = Double.parseDouble(latitude);
+        double userLongitude = Double.parseDouble(longitude);
+
+        // 10km 안에 있는 식당 중 count개(3개) 추리기 - 10km 내 식당이 count개 미만이면 전부
+        List<Long> randomRestaurantIds = restaurantSpatialIndex.sampleIdsWithinRadius(userLatitude, userLongitude, 10, count.intValue());
+        List<RandomRestaurantRes> randomRestaurantResList = toRandomRestaurantResList(user, randomRestaurantIds);
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(randomRestaurantResList)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
 
-        // 랜덤 수 count개(3개) 추리기
-        Set<Integer> randomNum = new HashSet<>();
-        while(randomNum.size() < count){
-            randomNum.add((int)(Math.random() * restaurants.size()));
+    // 추출된 식당과 북마크 여부를 각각 한 번의 쿼리로 조회 (추출 순서 유지)
+    private List<RandomRestaurantRes> toRandomRestaurantResList(User user, List<Long> restaurantIds) {
+        List<RandomRestaurantRes> randomRestaurantResList = new ArrayList<>();
+        if (restaurantIds.isEmpty()) {
+            return randomRestaurantResList;
         }
 
-        Iterator<Integer> iter = randomNum.iterator();
-        while(iter.hasNext()){
-            int num = iter.next();
-            Restaurant restaurant = restaurants.get(num);
-            // 북마크 여부
-            Optional<Bookmark> findBookmark = bookmarkRepository.findByContentIdAndContentTypeAndUser(restaurant.getId(), ContentType.RESTAURANT, user);
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(restaurantIds).stream()
+                .collect(Collectors.toMap(Restaurant::getId, restaurant -> restaurant));
+        Set<Long> bookmarkedIds = new HashSet<>(bookmarkRepository.findContentIdsByContentTypeAndUserAndContentIdIn(ContentType.RESTAURANT, user, restaurantIds));
 
+        for (Long restaurantId : restaurantIds) {
+            Restaurant restaurant = restaurantMap.get(restaurantId);
+            if (restaurant == null) {
+                continue;
+            }
             RandomRestaurantRes randomRestaurantRes = RandomRestaurantRes.builder()
                     .restaurantId(restaurant.getId())
                     .thumbnail(restaurant.getThumbnail())
                     .name(restaurant.getName())
-                    .isBookmark(findBookmark.isPresent())
-                    .latitude(restaurant.getLatitude())
-                    .longitude(restaurant.getLongitude())
+                    .isBookmark(bookmarkedIds.contains(restaurant.getId()))
+                    .latitude(String.valueOf(restaurant.getLatitude()))
+                    .longitude(String.valueOf(restaurant.getLongitude()))
                     .build();
-            restaurantResList.add(randomRestaurantRes);
+            randomRestaurantResList.add(randomRestaurantRes);
         }
+        return randomRestaurantResList;
+    }
+
+    // Map 1depth - 식당 리스트 조회 : 가까운 순
+    public ResponseEntity<?> findAroundRestaurantList(Integer page, String latitude, String longitude) {
+
+        DefaultAssert.isTrue(page >= 0 && page <= MAX_AROUND_PAGE, "page는 0 이상 " + MAX_AROUND_PAGE + " 이하입니다.");
+
+        // 식당 id, 식당 이름, 식당 카테고리(한식, 양식 등), 내 위치로부터의 거리 (m 단위), 별점, 썸네일 이미지
+        double userLatitude = Double.parseDouble(latitude);
+        double userLongitude = Double.parseDouble(longitude);
+
+        // 메모리 KD-tree에서 (page + 1) * 10개의 최근접 식당을 찾은 뒤 해당 페이지만 사용
+        List<RestaurantKdTree.Neighbor> neighbors = restaurantSpatialIndex.findNearest(userLatitude, userLongitude, (page + 1) * 10, null, null);
+        List<RestaurantKdTree.Neighbor> pageNeighbors = neighbors.subList(Math.min(page * 10, neighbors.size()), neighbors.size());
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
-                .information(restaurantResList)
+                .information(toRestaurantBannerResList(pageNeighbors))
                 .build();
 
         return ResponseEntity.ok(apiResponse);
 
     }
 
-    // home - 권한 동의 o, 10km 이내 랜덤 식당 3개 조회
-    public ResponseEntity<?> findRandomRestaurantWithPermission(UserPrincipal userPrincipal, Long count, String latitude, String longitude) {
+    // Map 1depth - 식당 리스트 조회 : 가까운 순 (커서 기반)
+    public ResponseEntity<?> findNearestRestaurantList(String cursor, Integer size, String latitude, String longitude) {
 
-        // 지구의 반지름
-        final int EARTH_RADIUS = 6371;
-
-        User user = userService.validateUserById(userPrincipal.getId());
-        List<Restaurant> restaurants = restaurantRepository.findAll();
+        DefaultAssert.isTrue(size > 0 && size <= 50, "조회 개수는 1개 이상 50개 이하입니다.");
 
         double userLatitude = Double.parseDouble(latitude);
         double userLongitude = Double.parseDouble(longitude);
 
-        List<RandomRestaurantRes> restaurantResList = new ArrayList<>(); // 근처 식당 모음
-        List<RandomRestaurantRes> randomRestaurantResList = new ArrayList<>(); // 랜덤 3개 응답
-
-        if(!restaurants.isEmpty()) {
-            for (Restaurant restaurant : restaurants) {
-                double restaurantLatitude = Double.parseDouble(restaurant.getLatitude());
-                double restaurantLongitude = Double.parseDouble(restaurant.getLongitude());
-
-                double distance = calculateDistance(userLatitude, userLongitude, restaurantLatitude, restaurantLongitude);
-
-                Optional<Bookmark> findBookmark = bookmarkRepository.findByContentIdAndContentTypeAndUser(restaurant.getId(), ContentType.RESTAURANT, user);
-
-                // 10km 안에 있는 식당들만 포함
-                if (distance <= 10) {
-                    RandomRestaurantRes randomRestaurantRes = RandomRestaurantRes.builder()
-                            .restaurantId(restaurant.getId())
-                            .name(restaurant.getName())
-                            .thumbnail(restaurant.getThumbnail())
-                            .isBookmark(findBookmark.isPresent())
-                            .latitude(restaurant.getLatitude())
-                            .longitude(restaurant.getLongitude())
-                            .build();
-                    restaurantResList.add(randomRestaurantRes);
-                }
-            }
+        Double afterDistance = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeNearestCursor(cursor);
+            afterDistance = Double.parseDouble(decoded[0]);
+            afterId = Long.parseLong(decoded[1]);
         }
-        if (!restaurantResList.isEmpty()) {
-            if (count - restaurantResList.size() >= 0) { // 10km 내 식당 3개 미만
-                randomRestaurantResList.addAll(restaurantResList);
-                count -= restaurantResList.size();
-            }
 
-            // 랜덤 수 count개(3개) 추리기
-            Set<Integer> randomNum = new HashSet<>();
-            while(randomNum.size() < count){
-                randomNum.add((int)(Math.random() * restaurantResList.size()));
-            }
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<RestaurantKdTree.Neighbor> neighbors = restaurantSpatialIndex.findNearest(userLatitude, userLongitude, size + 1, afterDistance, afterId);
+        boolean hasNext = neighbors.size() > size;
+        if (hasNext) {
+            neighbors = neighbors.subList(0, size);
+        }
 
-            Iterator<Integer> iter = randomNum.iterator();
-            while(iter.hasNext()){
-                int num = iter.next();
-                randomRestaurantResList.add(restaurantResList.get(num));
-            }
+        String nextCursor = null;
+        if (hasNext) {
+            RestaurantKdTree.Neighbor last = neighbors.get(neighbors.size() - 1);
+            nextCursor = encodeNearestCursor(last.distance(), last.id());
         }
 
+        RestaurantBannerSliceRes restaurantBannerSliceRes = RestaurantBannerSliceRes.builder()
+                .restaurants(toRestaurantBannerResList(neighbors))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
-                .information(randomRestaurantResList)
+                .information(restaurantBannerSliceRes)
                 .build();
 
         return ResponseEntity.ok(apiResponse);
     }
 
-    // Map 1depth - 식당 리스트 조회 : 가까운 순
-    public ResponseEntity<?> findAroundRestaurantList(Integer page, String latitude, String longitude) {
-
-        // 식당 id, 식당 이름, 식당 카테고리(한식, 양식 등), 내 위치로부터의 거리 (m 단위), 별점, 썸네일 이미지
-        Pageable pageable = PageRequest.of(page, 10);
+    // 최근접 순서를 유지하며 식당 정보 조회
+    private List<RestaurantBannerRes> toRestaurantBannerResList(List<RestaurantKdTree.Neighbor> neighbors) {
+        List<Long> restaurantIds = neighbors.stream().map(RestaurantKdTree.Neighbor::id).toList();
+        Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(restaurantIds).stream()
+                .collect(Collectors.toMap(Restaurant::getId, restaurant -> restaurant));
 
-        double userLatitude = Double.parseDouble(latitude);
-        double userLongitude = Double.parseDouble(longitude);
-
-        Page<Restaurant> restaurantPage = restaurantRepository.findRestaurantsNearUser(userLatitude, userLongitude, pageable);
-        List<Restaurant> restaurantList = restaurantPage.getContent();
         List<RestaurantBannerRes> restaurantBannerResList = new ArrayList<>();
-
-        for (Restaurant restaurant : restaurantList) {
-            double distance = calculateDistance(userLatitude, userLongitude,  Double.parseDouble(restaurant.getLatitude()),  Double.parseDouble(restaurant.getLongitude()));
+        for (RestaurantKdTree.Neighbor neighbor : neighbors) {
+            Restaurant restaurant = restaurantMap.get(neighbor.id());
+            if (restaurant == null) {
+                continue;
+            }
 
             RestaurantBannerRes restaurantBannerRes = RestaurantBannerRes.builder()
                     .restaurantId(restaurant.getId())
                     .restaurantName(restaurant.getName())
                     .restaurantType(restaurant.getRestaurantType())
-                    .distance(distance)
+                    .distance(neighbor.distance())
                     .rate(restaurant.getRate())
                     .thumbnail(restaurant.getThumbnail())
-                    .latitude(restaurant.getLatitude())
-                    .longitude(restaurant.getLongitude())
+                    .latitude(String.valueOf(restaurant.getLatitude()))
+                    .longitude(String.valueOf(restaurant.getLongitude()))
                     .build();
             restaurantBannerResList.add(restaurantBannerRes);
         }
+        return restaurantBannerResList;
+    }
 
-        ApiResponse apiResponse = ApiResponse.builder()
-                .check(true)
-                .information(restaurantBannerResList)
-                .build();
-
-        return ResponseEntity.ok(apiResponse);
+    private String encodeNearestCursor(double distance, long restaurantId) {
+        String raw = distance + ":" + restaurantId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
+    private String[] decodeNearestCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] decoded = raw.split(":");
+            Double.parseDouble(decoded[0]);
+            Long.parseLong(decoded[1]);
+            return decoded;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new DefaultException(ErrorCode.INVALID_PARAMETER, "유효한 커서가 아닙니다.");
+        }
     }
 
     // Description : 식당 검색 + 정렬 (리뷰 많은 순 / 스크랩 많은 순 / 가까운 순)
     public ResponseEntity<?> searchRestaurantsWithFilter(Integer page, String latitude, String longitude, String searchWord, String filter) {
 
-        Pageable pageable = PageRequest.of(page, 10);
-        Page<Restaurant> restaurantPage;
-
         double userLatitude = Double.parseDouble(latitude);
         double userLongitude = Double.parseDouble(longitude);
 
-//        String searchWord = searchRestaurantReq.getSearchWord();
-
-        System.out.println(searchWord);
-
-        if (searchWord.contains("카페")) {
-            searchWord = searchWord.replace("카페", "CAFE");
-        }
-        if (searchWord.contains("양식")) {
-            searchWord = searchWord.replace("양식", "WESTERN");
-        }
-        if (searchWord.contains("중식")) {
-            searchWord = searchWord.replace("중식", "CHINESE");
-        }
-        if (searchWord.contains("베이커리")) {
-            searchWord = searchWord.replace("베이커리", "BAKERY");
-        }
-
-        System.out.println(searchWord);
+        // 검색어를 카테고리 / 지역 / 나머지 검색어로 정규화
+        RestaurantSearchQuery searchQuery = restaurantSearchQueryParser.parse(searchWord);
 
+        RestaurantSearchIndex.SearchOrder searchOrder;
         if (filter.equals("SCRAP")) {
             // 스크랩 많은 순 정렬
-            restaurantPage = restaurantRepository.searchWithPriorityAndBookmarkOrder(searchWord, pageable);
-
+            searchOrder = RestaurantSearchIndex.SearchOrder.SCRAP;
         } else if (filter.equals("DISTANCE")) {
             // 가까운 순 정렬
-            restaurantPage = restaurantRepository.searchWithPriorityAndDistanceNative(searchWord, userLatitude, userLongitude, pageable);
+            searchOrder = RestaurantSearchIndex.SearchOrder.DISTANCE;
         } else {
             // 리뷰 수 정렬 : 기본
-            restaurantPage = restaurantRepository.searchWithPriorityAndReviewOrder(searchWord, pageable);
+            searchOrder = RestaurantSearchIndex.SearchOrder.REVIEW;
+        }
+
+        // 메모리 역색인에서 정렬된 id를 찾은 뒤 해당 페이지의 식당만 조회
+        List<Long> matchedIds = restaurantSearchIndex.search(searchQuery, searchOrder, userLatitude, userLongitude);
+        int fromIndex = Math.min(page * 10, matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(fromIndex, Math.min(fromIndex + 10, matchedIds.size()));
+
+        List<Restaurant> restaurantList = new ArrayList<>();
+        if (!pageIds.isEmpty()) {
+            Map<Long, Restaurant> restaurantMap = restaurantRepository.findAllById(pageIds).stream()
+                    .collect(Collectors.toMap(Restaurant::getId, restaurant -> restaurant));
+            pageIds.stream().map(restaurantMap::get).filter(Objects::nonNull).forEach(restaurantList::add);
         }
 
-        List<Restaurant> restaurantList = restaurantPage.getContent();
         List<SearchRestaurantWithSortRes> searchRestaurantWithSortResList = new ArrayList<>();
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(userLatitude, userLongitude);
         for (Restaurant restaurant : restaurantList) {
-            Double distance = calculateDistance(userLatitude, userLongitude, Double.parseDouble(restaurant.getLatitude()), Double.parseDouble(restaurant.getLongitude()));
+            Double distance = geoDistanceCalculator.distance(restaurant.getLatitude(), restaurant.getLongitude());
 
             SearchRestaurantWithSortRes searchRestaurantWithSortRes = SearchRestaurantWithSortRes.builder()
                     .restaurantId(restaurant.getId())
@@ -490,8 +544,8 @@ public class RestaurantService {
                     .restaurantType(restaurant.getRestaurantType())
                     .distance(distance)
                     .rate(restaurant.getRate())
-                    .latitude(restaurant.getLatitude())
-                    .longitude(restaurant.getLongitude())
+                    .latitude(String.valueOf(restaurant.getLatitude()))
+                    .longitude(String.valueOf(restaurant.getLongitude()))
                     .build();
             searchRestaurantWithSortResList.add(searchRestaurantWithSortRes);
         }
@@ -504,18 +558,30 @@ public class RestaurantService {
         return ResponseEntity.ok(apiResponse);
     }
 
-    // Description : 유저 - 식당 거리 계산 함수
-    public double calculateDistance(double userLatitude, double userLongitude, double restaurantLatitude, double restaurantLongitude) {
-        double dLatitude = Math.toRadians(restaurantLatitude - userLatitude);
-        double dLongitude = Math.toRadians(restaurantLongitude - userLongitude);
+    // Description : 검색어 자동완성 (식당 이름 / 메뉴 이름 / 지역, 리뷰 많은 순) - 초성 검색 지원
+    public ResponseEntity<?> suggestRestaurants(String keyword, Integer size) {
+        DefaultAssert.isTrue(size > 0 && size <= RestaurantSuggestIndex.MAX_SUGGESTIONS, "size는 1 이상 " + RestaurantSuggestIndex.MAX_SUGGESTIONS + " 이하입니다.");
 
-        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
-                + Math.cos(Math.toRadians(userLatitude)) * Math.cos(Math.toRadians(restaurantLatitude))
-                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        List<RestaurantSuggestionRes> restaurantSuggestionResList = restaurantSuggestIndex.suggest(keyword, size).stream()
+                .map(suggestion -> RestaurantSuggestionRes.builder()
+                        .text(suggestion.text())
+                        .suggestionType(suggestion.suggestionType())
+                        .restaurantId(suggestion.restaurantId())
+                        .build())
+                .toList();
 
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(restaurantSuggestionResList)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // Description : 유저 - 식당 거리 계산 함수 (여러 식당을 계산할 때는 GeoDistanceCalculator를 한 번 생성해서 사용)
+    public double calculateDistance(double userLatitude, double userLongitude, double restaurantLatitude, double restaurantLongitude) {
         // 두 지점 간의 직선 거리를 반환 (단위: km)
-        return EARTH_RADIUS * c; // distance
+        return GeoDistanceCalculator.from(userLatitude, userLongitude).distance(restaurantLatitude, restaurantLongitude);
     }
 
     public Restaurant validateRestaurantById(Long restaurantId) {
@@ -0,0 +1,395 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Description : 식당 좌표 격자(uniform grid) 인덱스 - 반경 조회 시 후보 셀만 탐색
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSpatialIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 위도 1도 당 거리 (km)
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 격자 한 칸의 크기 (도 단위, 0.05도 = 약 5.5km)
+    @Value("${restaurant.spatial-index.cell-size:0.05}")
+    private double cellSize;
+
+    // 현재 격자 - 전체 재인덱싱은 새 격자를 만든 뒤 교체하므로 조회 중에 비거나 일부만 찬 격자가 보이지 않음
+    private volatile Grid grid = new Grid();
+    // 격자 변경(put / remove / 교체)은 한 번에 하나씩
+    private final Object writeLock = new Object();
+    // 격자가 바뀔 때마다 증가 - 변경 이벤트보다 먼저 올려서, 이전 버전으로 만든 캐시는 이벤트 이후에 저장되지 않도록 함
+    private volatile long version;
+
+    // 최근접 조회용 KD-tree - 변경이 있으면 다음 조회 시 재생성
+    private volatile RestaurantKdTree kdTree;
+    private volatile boolean kdTreeDirty = true;
+    // KD-tree 생성 시점의 식당 id 배열 - 무작위 추출에 사용
+    private volatile long[] idSnapshot = new long[0];
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    // 서버 시작 시 전체 인덱싱 - 새 격자에 색인한 뒤 교체
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Map<Long, List<Point>> cellPoints = new HashMap<>();
+        Grid newGrid = new Grid();
+        for (Restaurant restaurant : restaurantRepository.findAll()) {
+            Point point = toPoint(restaurant);
+            if (point != null) {
+                newGrid.points.put(point.id(), point);
+                cellPoints.computeIfAbsent(cellKey(point.latitude(), point.longitude()), key -> new ArrayList<>()).add(point);
+            }
+        }
+        cellPoints.forEach((key, points) -> newGrid.cells.put(key, Cell.of(points)));
+
+        Grid previousGrid;
+        synchronized (writeLock) {
+            previousGrid = grid;
+            grid = newGrid;
+            kdTreeDirty = true;
+            version++;
+        }
+        lastSyncedAt = syncedAt;
+
+        log.info("Restaurant spatial index built : {} restaurants, {} cells", newGrid.points.size(), newGrid.cells.size());
+        publishChanges(previousGrid, newGrid);
+    }
+
+    // 이전 격자와 비교해 추가 / 이동 / 삭제된 식당만 변경 이벤트 발행
+    private void publishChanges(Grid previousGrid, Grid newGrid) {
+        for (Point current : newGrid.points.values()) {
+            Point previous = previousGrid.points.get(current.id());
+            if (!current.equals(previous)) {
+                eventPublisher.publishEvent(RestaurantLocationChangedEvent.of(previous, current));
+            }
+        }
+        for (Point previous : previousGrid.points.values()) {
+            if (!newGrid.points.containsKey(previous.id())) {
+                eventPublisher.publishEvent(RestaurantLocationChangedEvent.of(previous, null));
+            }
+        }
+    }
+
+    // 변경된 식당만 반영한 뒤, 좌표가 있는 식당 id 목록과 비교해 DB에서 삭제된 식당을 제거
+    // 개수만 비교하면 같은 주기에 삭제와 추가가 함께 있을 때 삭제된 식당이 남으므로 id 집합으로 비교
+    @Scheduled(fixedDelayString = "${restaurant.spatial-index.refresh-delay:300000}")
+    public void refresh() {
+        if (lastSyncedAt == null) {
+            rebuild();
+            return;
+        }
+        LocalDateTime syncedAt = LocalDateTime.now();
+        restaurantRepository.findByModifiedDateAfter(lastSyncedAt).forEach(this::put);
+        lastSyncedAt = syncedAt;
+
+        Set<Long> restaurantIds = new HashSet<>(restaurantRepository.findIdsWithCoordinates());
+        for (Long indexedId : new ArrayList<>(grid.points.keySet())) {
+            if (!restaurantIds.contains(indexedId)) {
+                remove(indexedId);
+            }
+        }
+    }
+
+    // 식당 추가 / 좌표 변경 반영 - 좌표가 지워진 식당은 인덱스에서 제거
+    public void put(Restaurant restaurant) {
+        if (restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            remove(restaurant.getId());
+            return;
+        }
+        Point previous;
+        Point current;
+        synchronized (writeLock) {
+            previous = grid.points.get(restaurant.getId());
+            current = index(grid, restaurant);
+            kdTreeDirty = true;
+            version++;
+        }
+        if (!current.equals(previous)) {
+            eventPublisher.publishEvent(RestaurantLocationChangedEvent.of(previous, current));
+        }
+    }
+
+    public void remove(Long restaurantId) {
+        Point previous;
+        synchronized (writeLock) {
+            previous = grid.points.remove(restaurantId);
+            if (previous == null) {
+                return;
+            }
+            removeFromCell(grid, previous);
+            kdTreeDirty = true;
+            version++;
+        }
+        eventPublisher.publishEvent(RestaurantLocationChangedEvent.of(previous, null));
+    }
+
+    private Point index(Grid target, Restaurant restaurant) {
+        Point point = toPoint(restaurant);
+        if (point == null) {
+            return null;
+        }
+        Point previous = target.points.put(point.id(), point);
+        if (previous != null) {
+            removeFromCell(target, previous);
+        }
+        // 셀은 불변 배열이므로 새 셀로 교체 (조회 중인 스레드는 이전 셀을 그대로 사용)
+        target.cells.compute(cellKey(point.latitude(), point.longitude()),
+                (key, cell) -> cell == null ? Cell.of(List.of(point)) : cell.with(point));
+        return point;
+    }
+
+    private Point toPoint(Restaurant restaurant) {
+        if (restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            return null;
+        }
+        return new Point(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude(),
+                restaurant.getName(), restaurant.getRestaurantType());
+    }
+
+    // Description : 반경(km) 이내 식당 id 조회 (id 오름차순)
+    public List<Long> findIdsWithinRadius(double userLatitude, double userLongitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double longitudeDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(userLatitude)), 0.01));
+
+        int minLatitudeCell = cellIndex(userLatitude - latitudeDelta);
+        int maxLatitudeCell = cellIndex(userLatitude + latitudeDelta);
+        int minLongitudeCell = cellIndex(userLongitude - longitudeDelta);
+        int maxLongitudeCell = cellIndex(userLongitude + longitudeDelta);
+
+        Grid current = grid;
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(userLatitude, userLongitude);
+        // 셀마다 미리 계산해 둔 라디안 / cos(위도) 배열로 바로 거리 계산 - 결과 목록 외에는 할당 없음
+        List<Long> ids = new ArrayList<>();
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                Cell cell = current.cells.get(cellKey(latitudeCell, longitudeCell));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.ids.length; i++) {
+                    if (geoDistanceCalculator.distance(cell.latitudeRadians[i], cell.longitudeRadians[i], cell.cosLatitudes[i]) <= radiusKm) {
+                        ids.add(cell.ids[i]);
+                    }
+                }
+            }
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    // Description : 위경도 범위 안의 식당 조회 (지도 타일용)
+    public List<Point> findWithinBounds(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        int minLatitudeCell = cellIndex(minLatitude);
+        int maxLatitudeCell = cellIndex(maxLatitude);
+        int minLongitudeCell = cellIndex(minLongitude);
+        int maxLongitudeCell = cellIndex(maxLongitude);
+
+        Grid current = grid;
+        List<Point> result = new ArrayList<>();
+        long rangeSize = (long) (maxLatitudeCell - minLatitudeCell + 1) * (maxLongitudeCell - minLongitudeCell + 1);
+        // 범위가 넓으면 (낮은 줌) 비어있지 않은 셀만 순회
+        if (rangeSize > current.cells.size()) {
+            for (Map.Entry<Long, Cell> entry : current.cells.entrySet()) {
+                int latitudeCell = (int) (entry.getKey() >> 32);
+                int longitudeCell = (int) entry.getKey().longValue();
+                if (latitudeCell >= minLatitudeCell && latitudeCell <= maxLatitudeCell
+                        && longitudeCell >= minLongitudeCell && longitudeCell <= maxLongitudeCell) {
+                    collectWithinBounds(entry.getValue(), minLatitude, maxLatitude, minLongitude, maxLongitude, result);
+                }
+            }
+            return result;
+        }
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                Cell cell = current.cells.get(cellKey(latitudeCell, longitudeCell));
+                if (cell != null) {
+                    collectWithinBounds(cell, minLatitude, maxLatitude, minLongitude, maxLongitude, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collectWithinBounds(Cell cell, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, List<Point> result) {
+        for (Point point : cell.points) {
+            if (point.latitude() >= minLatitude && point.latitude() < maxLatitude
+                    && point.longitude() >= minLongitude && point.longitude() < maxLongitude) {
+                result.add(point);
+            }
+        }
+    }
+
+    // Description : 커서(거리, id) 이후로 가까운 식당 limit개 조회
+    public List<RestaurantKdTree.Neighbor> findNearest(double userLatitude, double userLongitude, int limit, Double afterDistance, Long afterId) {
+        return kdTree().nearest(userLatitude, userLongitude, limit, afterDistance, afterId);
+    }
+
+    // Description : 전체 식당 중 count개 id를 무작위 추출 - 식당 수와 무관하게 O(count)
+    public List<Long> sampleIds(int count) {
+        kdTree();
+        long[] ids = idSnapshot;
+        List<Long> sampledIds = new ArrayList<>();
+        for (int index : sampleIndexes(ids.length, count)) {
+            sampledIds.add(ids[index]);
+        }
+        return sampledIds;
+    }
+
+    // Description : 반경(km) 이내 식당 중 count개 id를 무작위 추출
+    public List<Long> sampleIdsWithinRadius(double userLatitude, double userLongitude, double radiusKm, int count) {
+        List<Long> ids = findIdsWithinRadius(userLatitude, userLongitude, radiusKm);
+        List<Long> sampledIds = new ArrayList<>();
+        for (int index : sampleIndexes(ids.size(), count)) {
+            sampledIds.add(ids.get(index));
+        }
+        return sampledIds;
+    }
+
+    // [0, size) 에서 서로 다른 인덱스 min(size, count)개 추출 (Floyd 알고리즘) - 후보보다 많이 요청해도 종료됨
+    private static List<Integer> sampleIndexes(int size, int count) {
+        int sampleSize = Math.max(0, Math.min(size, count));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> selected = new HashSet<>();
+        for (int bound = size - sampleSize; bound < size; bound++) {
+            int candidate = random.nextInt(bound + 1);
+            selected.add(selected.contains(candidate) ? bound : candidate);
+        }
+        List<Integer> indexes = new ArrayList<>(selected);
+        Collections.shuffle(indexes, random);
+        return indexes;
+    }
+
+    private RestaurantKdTree kdTree() {
+        if (kdTreeDirty) {
+            synchronized (this) {
+                if (kdTreeDirty) {
+                    kdTreeDirty = false;
+                    kdTree = buildKdTree();
+                }
+            }
+        }
+        return kdTree;
+    }
+
+    private RestaurantKdTree buildKdTree() {
+        List<Point> snapshot = new ArrayList<>(grid.points.values());
+        long[] ids = new long[snapshot.size()];
+        double[] latitudes = new double[snapshot.size()];
+        double[] longitudes = new double[snapshot.size()];
+        for (int i = 0; i < snapshot.size(); i++) {
+            ids[i] = snapshot.get(i).id();
+            latitudes[i] = snapshot.get(i).latitude();
+            longitudes[i] = snapshot.get(i).longitude();
+        }
+        idSnapshot = ids;
+        return new RestaurantKdTree(ids, latitudes, longitudes);
+    }
+
+    public int size() {
+        return grid.points.size();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private void removeFromCell(Grid target, Point point) {
+        target.cells.computeIfPresent(cellKey(point.latitude(), point.longitude()), (key, cell) -> cell.without(point.id()));
+    }
+
+    private int cellIndex(double degree) {
+        return (int) Math.floor(degree / cellSize);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+    // 식당 id -> 좌표, 셀 키 -> 셀에 속한 식당 id
+    private static final class Grid {
+        private final Map<Long, Point> points = new ConcurrentHashMap<>();
+        private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    }
+
+    // 격자 한 칸 (불변) - 거리 계산용 라디안 좌표와 cos(위도)를 식당 순서대로 primitive 배열에 미리 계산해 둠
+    // 변경 시에는 배열을 복사한 새 셀로 교체 (셀 하나의 식당 수는 적고 변경은 드묾)
+    private static final class Cell {
+
+        private final long[] ids;
+        private final Point[] points;
+        private final double[] latitudeRadians;
+        private final double[] longitudeRadians;
+        private final double[] cosLatitudes;
+
+        private Cell(Point[] points) {
+            int size = points.length;
+            this.points = points;
+            this.ids = new long[size];
+            this.latitudeRadians = new double[size];
+            this.longitudeRadians = new double[size];
+            this.cosLatitudes = new double[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = points[i].id();
+                latitudeRadians[i] = Math.toRadians(points[i].latitude());
+                longitudeRadians[i] = Math.toRadians(points[i].longitude());
+                cosLatitudes[i] = Math.cos(latitudeRadians[i]);
+            }
+        }
+
+        private static Cell of(List<Point> points) {
+            return new Cell(points.toArray(new Point[0]));
+        }
+
+        // 같은 식당이 있으면 교체, 없으면 추가
+        private Cell with(Point point) {
+            Cell cell = without(point.id());
+            Point[] newPoints = cell == null ? new Point[1] : Arrays.copyOf(cell.points, cell.points.length + 1);
+            newPoints[newPoints.length - 1] = point;
+            return new Cell(newPoints);
+        }
+
+        // 식당을 뺀 셀, 비면 null
+        private Cell without(Long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    if (ids.length == 1) {
+                        return null;
+                    }
+                    Point[] newPoints = new Point[points.length - 1];
+                    System.arraycopy(points, 0, newPoints, 0, i);
+                    System.arraycopy(points, i + 1, newPoints, i, points.length - i - 1);
+                    return new Cell(newPoints);
+                }
+            }
+            return this;
+        }
+    }
+
+    public record Point(Long id, double latitude, double longitude, String name, RestaurantType restaurantType) {
+    }
+}
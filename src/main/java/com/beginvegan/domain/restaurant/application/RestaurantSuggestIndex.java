@@ -0,0 +1,259 @@
+package com.beginvegan.domain.restaurant.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// Description : 검색어 자동완성 - 식당 이름, 메뉴 이름, 지역(시/도, 시/군/구)을 압축 트라이(radix trie)로 색인
+// 노드마다 리뷰 수 상위 MAX_SUGGESTIONS개를 미리 계산해 두어 조회는 접두어 길이만큼만 탐색
+@Component
+public class RestaurantSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // 한글 음절의 초성 (유니코드 순서)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    public enum SuggestionType {
+        RESTAURANT, MENU, REGION
+    }
+
+    // 식당 하나의 자동완성 대상
+    public record Source(Long restaurantId, String name, List<String> menuNames, List<String> regionNames, long reviewCount) {
+    }
+
+    public record Suggestion(String text, SuggestionType suggestionType, Long restaurantId, long reviewCount) {
+    }
+
+    private volatile Node textRoot = Node.EMPTY;
+    private volatile Node chosungRoot = Node.EMPTY;
+
+    // 전체 재생성 후 교체 - 생성 중에도 이전 트라이로 조회 가능
+    public void rebuild(Collection<Source> sources) {
+        List<Suggestion> suggestions = toSuggestions(sources);
+
+        Map<String, Set<Integer>> textKeys = new HashMap<>();
+        Map<String, Set<Integer>> chosungKeys = new HashMap<>();
+        for (int i = 0; i < suggestions.size(); i++) {
+            // 전체 이름과 단어 시작 위치마다 키 등록 ('그린테이블 강남점'은 '강남'으로도 검색)
+            for (String word : wordStarts(suggestions.get(i).text())) {
+                String textKey = normalize(word);
+                if (!textKey.isEmpty()) {
+                    textKeys.computeIfAbsent(textKey, key -> new HashSet<>()).add(i);
+                    chosungKeys.computeIfAbsent(toChosung(textKey), key -> new HashSet<>()).add(i);
+                }
+            }
+        }
+
+        textRoot = build(textKeys, suggestions);
+        chosungRoot = build(chosungKeys, suggestions);
+    }
+
+    // Description : 접두어로 시작하는 자동완성 조회 (리뷰 수 내림차순) - 초성만 입력하면 초성으로 검색
+    public List<Suggestion> suggest(String prefix, int size) {
+        String key = normalize(prefix == null ? "" : prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = find(isChosungOnly(key) ? chosungRoot : textRoot, key);
+        if (node == null) {
+            return List.of();
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(size, node.top.length));
+    }
+
+    // 간선 라벨을 따라 내려가다가 접두어가 끝나는 노드 반환 (라벨 중간에서 끝나도 해당 노드)
+    private Node find(Node root, String key) {
+        Node node = root;
+        int position = 0;
+        while (true) {
+            String label = node.label;
+            int length = Math.min(label.length(), key.length() - position);
+            if (!label.regionMatches(0, key, position, length)) {
+                return null;
+            }
+            position += length;
+            if (position == key.length()) {
+                return node;
+            }
+            node = node.child(key.charAt(position));
+            if (node == null) {
+                return null;
+            }
+        }
+    }
+
+    // 메뉴 / 지역은 같은 이름끼리 묶고 해당 식당들의 리뷰 수를 합산
+    private List<Suggestion> toSuggestions(Collection<Source> sources) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        Map<String, Long> menuCounts = new HashMap<>();
+        Map<String, Long> regionCounts = new HashMap<>();
+        for (Source source : sources) {
+            if (source.name() != null && !source.name().isBlank()) {
+                suggestions.add(new Suggestion(source.name(), SuggestionType.RESTAURANT, source.restaurantId(), source.reviewCount()));
+            }
+            for (String menuName : new HashSet<>(source.menuNames())) {
+                menuCounts.merge(menuName, source.reviewCount(), Long::sum);
+            }
+            for (String regionName : new HashSet<>(source.regionNames())) {
+                regionCounts.merge(regionName, source.reviewCount(), Long::sum);
+            }
+        }
+        menuCounts.forEach((menuName, count) -> suggestions.add(new Suggestion(menuName, SuggestionType.MENU, null, count)));
+        regionCounts.forEach((regionName, count) -> suggestions.add(new Suggestion(regionName, SuggestionType.REGION, null, count)));
+        return suggestions;
+    }
+
+    // 정렬된 키 목록에서 공통 접두어를 간선 라벨로 묶어 압축 트라이를 한 번에 생성
+    private Node build(Map<String, Set<Integer>> keys, List<Suggestion> suggestions) {
+        if (keys.isEmpty()) {
+            return Node.EMPTY;
+        }
+        String[] sortedKeys = keys.keySet().toArray(new String[0]);
+        Arrays.sort(sortedKeys);
+        Comparator<Integer> ranking = Comparator.<Integer>comparingLong(index -> -suggestions.get(index).reviewCount())
+                .thenComparing(index -> suggestions.get(index).text())
+                .thenComparing(index -> suggestions.get(index).suggestionType())
+                .thenComparingInt(index -> index);
+        return build(sortedKeys, 0, sortedKeys.length, 0, "", keys, suggestions, ranking);
+    }
+
+    private Node build(String[] sortedKeys, int lo, int hi, int depth, String label,
+                       Map<String, Set<Integer>> keys, List<Suggestion> suggestions, Comparator<Integer> ranking) {
+        // 범위 안의 키들이 공유하는 접두어 길이
+        int commonLength = sortedKeys[lo].length();
+        for (int i = lo + 1; i < hi; i++) {
+            commonLength = Math.min(commonLength, commonPrefixLength(sortedKeys[lo], sortedKeys[i], depth));
+        }
+        String edgeLabel = label + sortedKeys[lo].substring(depth, commonLength);
+
+        TreeSet<Integer> top = new TreeSet<>(ranking);
+        List<Node> children = new ArrayList<>();
+        int start = lo;
+        // 정렬되어 있으므로 공통 접두어와 길이가 같은 키는 맨 앞에 하나만 존재
+        if (sortedKeys[start].length() == commonLength) {
+            addTop(top, keys.get(sortedKeys[start]), ranking);
+            start++;
+        }
+        while (start < hi) {
+            char next = sortedKeys[start].charAt(commonLength);
+            int end = start + 1;
+            while (end < hi && sortedKeys[end].charAt(commonLength) == next) {
+                end++;
+            }
+            Node child = build(sortedKeys, start, end, commonLength + 1, String.valueOf(next), keys, suggestions, ranking);
+            children.add(child);
+            addTop(top, child.topIndexes, ranking);
+            start = end;
+        }
+
+        int[] topIndexes = top.stream().mapToInt(Integer::intValue).toArray();
+        Suggestion[] topSuggestions = new Suggestion[topIndexes.length];
+        for (int i = 0; i < topIndexes.length; i++) {
+            topSuggestions[i] = suggestions.get(topIndexes[i]);
+        }
+        char[] firstChars = new char[children.size()];
+        for (int i = 0; i < children.size(); i++) {
+            firstChars[i] = children.get(i).label.charAt(0);
+        }
+        return new Node(edgeLabel, firstChars, children.toArray(new Node[0]), topIndexes, topSuggestions);
+    }
+
+    private void addTop(TreeSet<Integer> top, Collection<Integer> indexes, Comparator<Integer> ranking) {
+        for (Integer index : indexes) {
+            addTop(top, index, ranking);
+        }
+    }
+
+    private void addTop(TreeSet<Integer> top, int[] indexes, Comparator<Integer> ranking) {
+        for (int index : indexes) {
+            addTop(top, index, ranking);
+        }
+    }
+
+    private void addTop(TreeSet<Integer> top, int index, Comparator<Integer> ranking) {
+        if (top.size() < MAX_SUGGESTIONS) {
+            top.add(index);
+        } else if (ranking.compare(index, top.last()) < 0 && top.add(index)) {
+            top.pollLast();
+        }
+    }
+
+    private int commonPrefixLength(String a, String b, int from) {
+        int length = Math.min(a.length(), b.length());
+        int i = from;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private List<String> wordStarts(String text) {
+        List<String> words = new ArrayList<>();
+        words.add(text);
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+                words.add(text.substring(i));
+            }
+        }
+        return words;
+    }
+
+    // 소문자 + 공백 제거
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    // 한글 음절은 초성으로, 그 외 문자는 그대로
+    private static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            chosung.append(c >= '가' && c <= '힣' ? CHOSUNG[(c - '가') / 588] : c);
+        }
+        return chosung.toString();
+    }
+
+    private static boolean isChosungOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node("", new char[0], new Node[0], new int[0], new Suggestion[0]);
+
+        private final String label;
+        private final char[] firstChars; // 자식 간선 라벨의 첫 글자 (오름차순)
+        private final Node[] children;
+        private final int[] topIndexes;
+        private final Suggestion[] top;
+
+        private Node(String label, char[] firstChars, Node[] children, int[] topIndexes, Suggestion[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.topIndexes = topIndexes;
+            this.top = top;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+}
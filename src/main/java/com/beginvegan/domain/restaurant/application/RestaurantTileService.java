@@ -0,0 +1,182 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.dto.response.RestaurantClusterRes;
+import com.beginvegan.domain.restaurant.dto.response.RestaurantMarkerRes;
+import com.beginvegan.domain.restaurant.dto.response.RestaurantTileRes;
+import com.beginvegan.global.DefaultAssert;
+import com.beginvegan.global.payload.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Description : 지도 타일(z/x/y) 단위 식당 마커 조회 - 메모리 공간 인덱스로 생성하고 타일 단위로 캐싱
+@Service
+@RequiredArgsConstructor
+public class RestaurantTileService {
+
+    private final RestaurantSpatialIndex restaurantSpatialIndex;
+
+    private static final int MAX_ZOOM = 20;
+    // 웹 메르카토르 위도 한계
+    private static final double MAX_LATITUDE = 85.05112878;
+    // 클러스터링 시 타일 한 변을 나누는 칸 수
+    private static final int CLUSTER_GRID = 8;
+
+    // 이 줌 레벨 미만에서는 클러스터로 응답
+    @Value("${restaurant.tile.cluster-max-zoom:14}")
+    private int clusterMaxZoom;
+
+    @Value("${restaurant.tile.cache-size:20000}")
+    private int cacheSize;
+
+    private final Map<Long, CachedTile> tileCache = new ConcurrentHashMap<>();
+
+    public ResponseEntity<?> findRestaurantTile(Integer z, Integer x, Integer y) {
+        DefaultAssert.isTrue(z >= 0 && z <= MAX_ZOOM, "줌 레벨은 0 이상 " + MAX_ZOOM + " 이하입니다.");
+        int tileCount = 1 << z;
+        DefaultAssert.isTrue(x >= 0 && x < tileCount && y >= 0 && y < tileCount, "유효하지 않은 타일 좌표입니다.");
+
+        long tileKey = tileKey(z, x, y);
+        CachedTile cachedTile = tileCache.get(tileKey);
+        RestaurantTileRes restaurantTileRes;
+        if (cachedTile != null) {
+            restaurantTileRes = cachedTile.tile();
+        } else {
+            // 인덱스 버전을 먼저 읽고 타일 생성 - 생성 중 인덱스가 바뀌었으면 (이미 무효화가 지나갔을 수 있으므로) 캐시하지 않음
+            long version = restaurantSpatialIndex.version();
+            restaurantTileRes = buildTile(z, x, y);
+            // 캐시가 가득 차면 비우고 다시 채움
+            if (tileCache.size() >= cacheSize) {
+                tileCache.clear();
+            }
+            CachedTile builtTile = new CachedTile(version, restaurantTileRes);
+            tileCache.compute(tileKey, (key, existing) ->
+                    version < restaurantSpatialIndex.version() || (existing != null && existing.version() >= version) ? existing : builtTile);
+        }
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(restaurantTileRes)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    // 식당 위치가 바뀌면 이전/현재 위치가 속한 타일만 줌 레벨별로 무효화
+    @EventListener
+    public void evictTiles(RestaurantLocationChangedEvent event) {
+        for (RestaurantSpatialIndex.Point point : new RestaurantSpatialIndex.Point[] {event.previous(), event.current()}) {
+            if (point == null) {
+                continue;
+            }
+            for (int z = 0; z <= MAX_ZOOM; z++) {
+                int x = (int) Math.floor(tileX(point.longitude(), z));
+                int y = (int) Math.floor(tileY(point.latitude(), z));
+                tileCache.remove(tileKey(z, x, y));
+            }
+        }
+    }
+
+    private RestaurantTileRes buildTile(int z, int x, int y) {
+        double west = longitude(x, z);
+        double east = longitude(x + 1, z);
+        double north = latitude(y, z);
+        double south = latitude(y + 1, z);
+
+        List<RestaurantSpatialIndex.Point> points = restaurantSpatialIndex.findWithinBounds(south, north, west, east);
+
+        if (z < clusterMaxZoom) {
+            return RestaurantTileRes.builder()
+                    .z(z).x(x).y(y)
+                    .clustered(true)
+                    .clusters(cluster(points, z, x, y))
+                    .markers(new ArrayList<>())
+                    .build();
+        }
+
+        List<RestaurantMarkerRes> markers = points.stream()
+                .sorted(Comparator.comparing(RestaurantSpatialIndex.Point::id))
+                .map(point -> RestaurantMarkerRes.builder()
+                        .restaurantId(point.id())
+                        .name(point.name())
+                        .restaurantType(point.restaurantType())
+                        .latitude(point.latitude())
+                        .longitude(point.longitude())
+                        .build())
+                .toList();
+
+        return RestaurantTileRes.builder()
+                .z(z).x(x).y(y)
+                .clustered(false)
+                .clusters(new ArrayList<>())
+                .markers(markers)
+                .build();
+    }
+
+    // 타일을 CLUSTER_GRID x CLUSTER_GRID 칸으로 나누어 칸마다 개수와 무게중심을 계산
+    private List<RestaurantClusterRes> cluster(List<RestaurantSpatialIndex.Point> points, int z, int x, int y) {
+        int[] counts = new int[CLUSTER_GRID * CLUSTER_GRID];
+        double[] latitudeSums = new double[CLUSTER_GRID * CLUSTER_GRID];
+        double[] longitudeSums = new double[CLUSTER_GRID * CLUSTER_GRID];
+
+        for (RestaurantSpatialIndex.Point point : points) {
+            int column = clamp((int) ((tileX(point.longitude(), z) - x) * CLUSTER_GRID));
+            int row = clamp((int) ((tileY(point.latitude(), z) - y) * CLUSTER_GRID));
+            int cell = row * CLUSTER_GRID + column;
+            counts[cell]++;
+            latitudeSums[cell] += point.latitude();
+            longitudeSums[cell] += point.longitude();
+        }
+
+        List<RestaurantClusterRes> clusters = new ArrayList<>();
+        for (int cell = 0; cell < counts.length; cell++) {
+            if (counts[cell] == 0) {
+                continue;
+            }
+            clusters.add(RestaurantClusterRes.builder()
+                    .count(counts[cell])
+                    .latitude(latitudeSums[cell] / counts[cell])
+                    .longitude(longitudeSums[cell] / counts[cell])
+                    .build());
+        }
+        return clusters;
+    }
+
+    private int clamp(int index) {
+        return Math.max(0, Math.min(CLUSTER_GRID - 1, index));
+    }
+
+    private long tileKey(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+
+    private double tileX(double longitude, int z) {
+        return (longitude + 180) / 360 * (1 << z);
+    }
+
+    private double tileY(double latitude, int z) {
+        double latitudeRadian = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        return (1 - Math.log(Math.tan(latitudeRadian) + 1 / Math.cos(latitudeRadian)) / Math.PI) / 2 * (1 << z);
+    }
+
+    private double longitude(int x, int z) {
+        return (double) x / (1 << z) * 360 - 180;
+    }
+
+    private double latitude(int y, int z) {
+        double n = Math.PI - 2 * Math.PI * y / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    // 타일을 만들 때 사용한 공간 인덱스 버전
+    private record CachedTile(long version, RestaurantTileRes tile) {
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +15,11 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_restaurant_latitude_longitude", columnList = "latitude, longitude"),
+        @Index(name = "idx_restaurant_review_count", columnList = "reviewCount, id"),
+        @Index(name = "idx_restaurant_bookmark_count", columnList = "bookmarkCount, id")
+})
 public class Restaurant extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,9 +35,9 @@ public class Restaurant extends BaseEntity {
     @Embedded
     private Address address;
 
-    private String latitude;
+    private Double latitude;
 
-    private String longitude;
+    private Double longitude;
 
     private String kakaoMapUrl;
 
@@ -41,6 +47,25 @@ public class Restaurant extends BaseEntity {
 
     private Double rate;
 
+    // 노출 중인 리뷰 평점의 합계 / 개수 - 리뷰 등록, 수정, 삭제, 노출 변경 시 벌크 UPDATE로만 갱신
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private double rateSum;
+
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private int rateCount;
+
+    // 정렬용 리뷰 수 / 스크랩 수 - 리뷰, 스크랩 등록 / 삭제 시 함께 갱신하고 RestaurantCountReconciler가 주기적으로 보정
+    // 벌크 UPDATE로만 변경 - 엔티티 저장 시 메모리의 값으로 덮어쓰지 않음
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private int reviewCount;
+
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private int bookmarkCount;
+
     @OneToMany(mappedBy = "restaurant")
     List<Menu> menus = new ArrayList<>();
 
@@ -48,7 +73,7 @@ public class Restaurant extends BaseEntity {
     List<Review> reviews = new ArrayList<>();
 
     @Builder
-    public Restaurant(Long id, String name, String contactNumber, RestaurantType restaurantType, Address address, String latitude, String longitude, String kakaoMapUrl, String thumbnail, String thumbnail_source, Double rate, List<Menu> menus, List<Review> reviews) {
+    public Restaurant(Long id, String name, String contactNumber, RestaurantType restaurantType, Address address, Double latitude, Double longitude, String kakaoMapUrl, String thumbnail, String thumbnail_source, Double rate, List<Menu> menus, List<Review> reviews) {
         this.id = id;
         this.name = name;
         this.contactNumber = contactNumber;
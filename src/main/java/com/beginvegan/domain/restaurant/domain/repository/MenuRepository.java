@@ -2,6 +2,14 @@ package com.beginvegan.domain.restaurant.domain.repository;
 
 import com.beginvegan.domain.restaurant.domain.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
+
+    @Query("SELECT DISTINCT m.restaurant.id FROM Menu m WHERE m.modifiedDate > :modifiedDate")
+    List<Long> findRestaurantIdsByModifiedDateAfter(@Param("modifiedDate") LocalDateTime modifiedDate);
 }
@@ -1,13 +1,16 @@
 package com.beginvegan.domain.restaurant.domain.repository;
 
+import com.beginvegan.domain.bookmark.domain.repository.ContentType;
 import com.beginvegan.domain.restaurant.domain.Restaurant;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,74 +23,58 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     @Query("SELECT r FROM Restaurant r")
     List<Restaurant> findAllWithMenus();
 
-    @Query(value = "SELECT *, (" +
-            "6371 * acos(" +
-            "cos(radians(:userLatitude)) * cos(radians(latitude)) *" +
-            "cos(radians(longitude) - radians(:userLongitude)) +" +
-            "sin(radians(:userLatitude)) * sin(radians(latitude))" +
-            ")" +
-            ") AS distance " +
-            "FROM restaurant " +
-            "ORDER BY distance ASC",
-            countQuery = "SELECT count(*) FROM restaurant",
-            nativeQuery = true)
-    Page<Restaurant> findRestaurantsNearUser(@Param("userLatitude") double userLatitude,
-                                             @Param("userLongitude") double userLongitude,
-                                             Pageable pageable);
+    @EntityGraph(attributePaths = {"menus"})
+    @Query("SELECT r FROM Restaurant r WHERE r.id IN :ids")
+    List<Restaurant> findAllWithMenusByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<Restaurant> findByModifiedDateAfter(LocalDateTime modifiedDate);
+
+    // 좌표가 있는 식당 id - 공간 인덱스에 들어가야 하는 식당 (PK만 조회)
+    @Query("SELECT r.id FROM Restaurant r WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    List<Long> findIdsWithCoordinates();
+
+    // 리뷰 수 / 스크랩 수 증감 - 동시 요청에도 누락되지 않도록 DB에서 원자적으로 갱신
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.reviewCount = r.reviewCount + :delta WHERE r.id = :restaurantId")
+    int updateReviewCount(@Param("restaurantId") Long restaurantId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.bookmarkCount = r.bookmarkCount + :delta WHERE r.id = :restaurantId")
+    int updateBookmarkCount(@Param("restaurantId") Long restaurantId, @Param("delta") int delta);
+
+    // 리뷰 수 / 스크랩 수 보정 - 집계한 값을 쓰지 않고 UPDATE 안에서 다시 세어 저장 (식당 행 잠금 후 계산하므로 그 사이의 증감이 덮어써지지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Restaurant r SET " +
+            "r.reviewCount = (SELECT COUNT(v) FROM Review v WHERE v.restaurant.id = r.id), " +
+            "r.bookmarkCount = (SELECT COUNT(b) FROM Bookmark b WHERE b.contentType = :contentType AND b.contentId = r.id) " +
+            "WHERE r.id = :restaurantId")
+    int repairCounts(@Param("restaurantId") Long restaurantId, @Param("contentType") ContentType contentType);
+
+    // 평점 합계 / 개수 증감 후 평균 평점(소수점 첫째 자리) 갱신 - rate를 먼저 계산해야 증감 전 값을 기준으로 계산됨
+    @Modifying
+    @Query("UPDATE Restaurant r SET " +
+            "r.rate = CASE WHEN r.rateCount + :countDelta > 0 THEN ROUND((r.rateSum + :rateDelta) / (r.rateCount + :countDelta), 1) ELSE NULL END, " +
+            "r.rateSum = r.rateSum + :rateDelta, " +
+            "r.rateCount = r.rateCount + :countDelta " +
+            "WHERE r.id = :restaurantId")
+    int updateRating(@Param("restaurantId") Long restaurantId, @Param("rateDelta") double rateDelta, @Param("countDelta") int countDelta);
 
-    // 리뷰 수로 정렬 + 검색어 포함 페이징
-    @Query("SELECT r FROM Restaurant r " +
-            "WHERE " +
-            "(:keyword IS NULL OR " +
-            "    (LOWER(r.address.province) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.address.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.restaurantType) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     EXISTS (SELECT m FROM Menu m WHERE m.restaurant = r AND LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))))) " +
-            "ORDER BY " +
-            "   (SELECT COUNT(rev) FROM Review rev WHERE rev.restaurant = r) DESC, " +
-            "   CASE " +
-            "       WHEN LOWER(r.address.province) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "            LOWER(r.address.city) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 1 " +
-            "       WHEN LOWER(r.restaurantType) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 2 " +
-            "       ELSE 3 " +
-            "   END, " +
-            "r.name ASC")
-    Page<Restaurant> searchWithPriorityAndReviewOrder(@Param("keyword") String keyword, Pageable pageable);
+    // 평점 합계 / 개수 / 평균 보정 - 노출 중인 리뷰의 평점을 UPDATE 안에서 다시 집계해 저장 (그 사이의 증감이 덮어써지지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Restaurant r SET " +
+            "r.rate = (SELECT ROUND(AVG(v.rate), 1) FROM Review v WHERE v.restaurant.id = r.id AND v.visible = true), " +
+            "r.rateSum = COALESCE((SELECT SUM(v.rate) FROM Review v WHERE v.restaurant.id = r.id AND v.visible = true), 0), " +
+            "r.rateCount = (SELECT COUNT(v.rate) FROM Review v WHERE v.restaurant.id = r.id AND v.visible = true) " +
+            "WHERE r.id = :restaurantId")
+    int repairRatingTotals(@Param("restaurantId") Long restaurantId);
 
-    // 가까운 순 정렬 + 검색어 포함 페이징
-    @Query(value = "SELECT r.* FROM restaurant r " +
-            "WHERE " +
-            "(:keyword IS NULL OR " +
-            "    (LOWER(r.province) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.restaurant_type) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     EXISTS (SELECT m.id FROM menu m WHERE m.restaurant_id = r.id AND LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))))) " +
-            "ORDER BY " +
-            "   (6371 * acos(cos(radians(:userLatitude)) * cos(radians(r.latitude)) *" +
-            "   cos(radians(r.longitude) - radians(:userLongitude)) + sin(radians(:userLatitude)) *" +
-            "   sin(radians(r.latitude)))) ASC, " +
-            "r.name ASC", nativeQuery = true)
-    Page<Restaurant> searchWithPriorityAndDistanceNative(@Param("keyword") String keyword,
-                                                         @Param("userLatitude") double userLatitude,
-                                                         @Param("userLongitude") double userLongitude,
-                                                         Pageable pageable);
+    // 식당별 [식당 id, 평점 합계, 평점 개수]
+    @Query("SELECT r.id, r.rateSum, r.rateCount FROM Restaurant r")
+    List<Object[]> findAllRatingTotals();
 
-    // 북마크 수로 정렬 + 검색어 포함 페이징
-    @Query("SELECT r FROM Restaurant r " +
-            "WHERE " +
-            "(:keyword IS NULL OR " +
-            "    (LOWER(r.address.province) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.address.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     LOWER(r.restaurantType) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "     EXISTS (SELECT m FROM Menu m WHERE m.restaurant = r AND LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))))) " +
-            "ORDER BY " +
-            "   (SELECT COUNT(b) FROM Bookmark b WHERE b.contentId = r.id AND b.contentType = 'RESTAURANT') DESC, " +
-            "   CASE " +
-            "       WHEN LOWER(r.address.province) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "            LOWER(r.address.city) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 1 " +
-            "       WHEN LOWER(r.restaurantType) LIKE LOWER(CONCAT('%', :keyword, '%')) THEN 2 " +
-            "       ELSE 3 " +
-            "   END, " +
-            "r.name ASC")
-    Page<Restaurant> searchWithPriorityAndBookmarkOrder(@Param("keyword") String keyword, Pageable pageable);
+    // 식당별 [식당 id, 리뷰 수, 스크랩 수]
+    @Query("SELECT r.id, r.reviewCount, r.bookmarkCount FROM Restaurant r")
+    List<Object[]> findAllCounts();
 }
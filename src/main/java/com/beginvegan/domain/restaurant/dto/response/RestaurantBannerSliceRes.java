@@ -0,0 +1,24 @@
+package com.beginvegan.domain.restaurant.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class RestaurantBannerSliceRes {
+
+    private List<RestaurantBannerRes> restaurants = new ArrayList<>();
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    @Builder
+    public RestaurantBannerSliceRes(List<RestaurantBannerRes> restaurants, String nextCursor, boolean hasNext) {
+        this.restaurants = restaurants;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,21 @@
+package com.beginvegan.domain.restaurant.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+public class RestaurantClusterRes {
+
+    private int count;
+
+    private double latitude;
+
+    private double longitude;
+
+    @Builder
+    public RestaurantClusterRes(int count, double latitude, double longitude) {
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
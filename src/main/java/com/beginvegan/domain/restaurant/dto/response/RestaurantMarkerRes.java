@@ -0,0 +1,28 @@
+package com.beginvegan.domain.restaurant.dto.response;
+
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+public class RestaurantMarkerRes {
+
+    private Long restaurantId;
+
+    private String name;
+
+    private RestaurantType restaurantType;
+
+    private double latitude;
+
+    private double longitude;
+
+    @Builder
+    public RestaurantMarkerRes(Long restaurantId, String name, RestaurantType restaurantType, double latitude, double longitude) {
+        this.restaurantId = restaurantId;
+        this.name = name;
+        this.restaurantType = restaurantType;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
@@ -0,0 +1,24 @@
+package com.beginvegan.domain.restaurant.dto.response;
+
+import com.beginvegan.domain.restaurant.application.RestaurantSuggestIndex;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+public class RestaurantSuggestionRes {
+
+    private String text;
+
+    // 식당 / 메뉴 / 지역
+    private RestaurantSuggestIndex.SuggestionType suggestionType;
+
+    // 식당 자동완성일 때만 존재
+    private Long restaurantId;
+
+    @Builder
+    public RestaurantSuggestionRes(String text, RestaurantSuggestIndex.SuggestionType suggestionType, Long restaurantId) {
+        this.text = text;
+        this.suggestionType = suggestionType;
+        this.restaurantId = restaurantId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.beginvegan.domain.restaurant.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class RestaurantTileRes {
+
+    private int z;
+
+    private int x;
+
+    private int y;
+
+    // true면 clusters, false면 markers에 값이 담김
+    private boolean clustered;
+
+    private List<RestaurantClusterRes> clusters = new ArrayList<>();
+
+    private List<RestaurantMarkerRes> markers = new ArrayList<>();
+
+    @Builder
+    public RestaurantTileRes(int z, int x, int y, boolean clustered, List<RestaurantClusterRes> clusters, List<RestaurantMarkerRes> markers) {
+        this.z = z;
+        this.x = x;
+        this.y = y;
+        this.clustered = clustered;
+        this.clusters = clusters;
+        this.markers = markers;
+    }
+}
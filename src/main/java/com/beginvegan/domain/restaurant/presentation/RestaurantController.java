@@ -1,6 +1,7 @@
 package com.beginvegan.domain.restaurant.presentation;
 
 import com.beginvegan.domain.restaurant.application.RestaurantService;
+import com.beginvegan.domain.restaurant.application.RestaurantTileService;
 import com.beginvegan.domain.restaurant.dto.request.RestaurantDetailReq;
 import com.beginvegan.domain.restaurant.dto.request.SearchRestaurantReq;
 import com.beginvegan.domain.restaurant.dto.response.*;
@@ -8,6 +9,7 @@ import com.beginvegan.domain.restaurant.dto.request.LocationReq;
 import com.beginvegan.domain.review.dto.response.ReviewListRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import com.beginvegan.global.payload.Message;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final RestaurantTileService restaurantTileService;
 
     // 식당 상세 조회 (메뉴 포함)
     @Operation(summary = "식당/카페 상세 정보(메뉴까지) 조희", description = "식당/카페 상세 정보(메뉴까지)를 조희합니다.")
@@ -62,6 +65,21 @@ public class RestaurantController {
         return restaurantService.findRestaurantReviewsById(userPrincipal, restaurantId, filter, isPhoto, page);
     }
 
+    @Operation(summary = "식당/카페 리뷰 조회 (커서)", description = "식당/카페 리뷰를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "식당/카페 리뷰 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "식당/카페 리뷰 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/{restaurant-id}/review/slice")
+    public ResponseEntity<?> findRestaurantReviewsByIdByCursor(
+            @Parameter(description = "AccessToken을 입력해주세요") @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "식당/카페를 ID로 조회합니다.", required = true) @PathVariable(value = "restaurant-id") Long restaurantId,
+            @Parameter(description = "'포토 리뷰만 보기' 선택 여부입니다. 기본값은 false입니다.") @RequestParam(defaultValue = "false") Boolean isPhoto,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return restaurantService.findRestaurantReviewsByIdByCursor(userPrincipal, restaurantId, isPhoto, cursor);
+    }
+
     @Operation(summary = "식당/카페 스크랩", description = "식당/카페를 스크랩합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "식당/카페 스크랩 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = Message.class))}),
@@ -138,7 +156,7 @@ public class RestaurantController {
     })
     @GetMapping("/around")
     public ResponseEntity<?> findAroundRestaurantList(
-            @Parameter(description = "식당 리스트를 페이지별로 가까운 순 조회합니다. **Page는 0부터 시작합니다!**", required = true) @RequestParam(value = "page") Integer page,
+            @Parameter(description = "식당 리스트를 페이지별로 가까운 순 조회합니다. **Page는 0부터 시작합니다!** 최대 99페이지까지 조회 가능하며, 이후는 커서 기반 조회를 사용해주세요.", required = true) @RequestParam(value = "page") Integer page,
             @Parameter(description = "사용자의 위도입니다.", required = true) @RequestParam(value = "latitude") String latitude,
             @Parameter(description = "사용자의 경도입니다.", required = true) @RequestParam(value = "longitude") String longitude
 
@@ -146,6 +164,37 @@ public class RestaurantController {
         return restaurantService.findAroundRestaurantList(page, latitude, longitude);
     }
 
+    // Map 1depth - 식당 리스트 조회 : 가까운 순 (커서 기반)
+    @Operation(summary = "식당 리스트 가까운 순 조회 (커서)", description = "식당 리스트를 가까운 순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = RestaurantBannerSliceRes.class))}),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/around/nearest")
+    public ResponseEntity<?> findNearestRestaurantList(
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "조회할 개수입니다. 기본값은 10입니다.") @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @Parameter(description = "사용자의 위도입니다.", required = true) @RequestParam(value = "latitude") String latitude,
+            @Parameter(description = "사용자의 경도입니다.", required = true) @RequestParam(value = "longitude") String longitude
+    ) {
+        return restaurantService.findNearestRestaurantList(cursor, size, latitude, longitude);
+    }
+
+    // Map - 지도 타일 단위 마커 조회
+    @Operation(summary = "지도 타일 식당 마커 조회", description = "z/x/y 타일 안의 식당을 조회합니다. 낮은 줌 레벨에서는 클러스터(개수, 중심 좌표)를, 높은 줌 레벨에서는 개별 마커를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = RestaurantTileRes.class))}),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<?> findRestaurantTile(
+            @Parameter(description = "줌 레벨입니다. (0 ~ 20)", required = true) @PathVariable(value = "z") Integer z,
+            @Parameter(description = "타일의 x 좌표입니다.", required = true) @PathVariable(value = "x") Integer x,
+            @Parameter(description = "타일의 y 좌표입니다.", required = true) @PathVariable(value = "y") Integer y
+    ) {
+        return restaurantTileService.findRestaurantTile(z, x, y);
+    }
+
     // 4.3 Map 검색 결과 화면
     @Operation(summary = "식당 검색 결과 조회", description = "식당 검색 결과 조회 (리뷰 많은 순 / 스크랩 많은 순 / 가까운 순)")
     @ApiResponses(value = {
@@ -162,4 +211,17 @@ public class RestaurantController {
     ) {
         return restaurantService.searchRestaurantsWithFilter(page, latitude, longitude, searchWord, filter);
     }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 식당 이름 / 메뉴 이름 / 지역을 리뷰 많은 순으로 조회합니다. 초성 검색을 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = {@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = RestaurantSuggestionRes.class)))}),
+            @ApiResponse(responseCode = "400", description = "조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/search/suggest")
+    public ResponseEntity<?> suggestRestaurants(
+            @Parameter(description = "입력 중인 검색어입니다. 초성만 입력할 수 있습니다. (ex. ㅂㄱ)", required = true) @RequestParam(value = "keyword") String keyword,
+            @Parameter(description = "자동완성 개수입니다. 1 ~ 10, 기본값은 10입니다.") @RequestParam(value = "size", defaultValue = "10") Integer size
+    ) {
+        return restaurantService.suggestRestaurants(keyword, size);
+    }
 }
@@ -0,0 +1,62 @@
+package com.beginvegan.domain.review.application;
+
+import com.beginvegan.domain.common.Status;
+import com.beginvegan.domain.image.domain.Image;
+import com.beginvegan.domain.image.domain.repository.ImageRepository;
+import com.beginvegan.domain.recommendation.domain.repository.RecommendationRepository;
+import com.beginvegan.domain.review.domain.Review;
+import com.beginvegan.domain.user.domain.User;
+import com.beginvegan.domain.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// Description : 리뷰 목록 응답에 필요한 작성자 / 이미지 / 조회 유저의 추천 여부를 리뷰 수와 무관하게 고정된 쿼리 수로 조회
+@Component
+@RequiredArgsConstructor
+public class ReviewBatchLoader {
+
+    private final ImageRepository imageRepository;
+    private final RecommendationRepository recommendationRepository;
+    private final UserRepository userRepository;
+
+    public ReviewBatch load(User viewer, List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return new ReviewBatch(Map.of(), Set.of());
+        }
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
+
+        // 아직 로딩되지 않은 작성자는 한 번에 조회 (영속성 컨텍스트의 프록시가 초기화됨)
+        Set<Long> writerIds = new HashSet<>();
+        for (Review review : reviews) {
+            if (!Hibernate.isInitialized(review.getUser())) {
+                writerIds.add(review.getUser().getId());
+            }
+        }
+        if (!writerIds.isEmpty()) {
+            userRepository.findAllById(writerIds);
+        }
+
+        Map<Long, List<Image>> images = new HashMap<>();
+        for (Image image : imageRepository.findByReviewIdIn(reviewIds)) {
+            images.computeIfAbsent(image.getReview().getId(), key -> new ArrayList<>()).add(image);
+        }
+
+        Set<Long> recommendedReviewIds = new HashSet<>(recommendationRepository.findReviewIdsByUserAndReviewIdInAndStatus(viewer, reviewIds, Status.ACTIVE));
+
+        return new ReviewBatch(images, recommendedReviewIds);
+    }
+
+    public record ReviewBatch(Map<Long, List<Image>> images, Set<Long> recommendedReviewIds) {
+
+        public List<Image> imagesOf(Review review) {
+            return images.getOrDefault(review.getId(), new ArrayList<>());
+        }
+
+        public boolean isRecommendedBy(Review review) {
+            return recommendedReviewIds.contains(review.getId());
+        }
+    }
+}
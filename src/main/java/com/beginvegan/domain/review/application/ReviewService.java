@@ -30,21 +30,18 @@ import com.beginvegan.domain.user.domain.User;
 import com.beginvegan.global.DefaultAssert;
 import com.beginvegan.global.config.security.token.UserPrincipal;
 import com.beginvegan.global.payload.ApiResponse;
+import com.beginvegan.global.payload.Cursor;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.Message;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -59,6 +56,7 @@ public class ReviewService {
     private final RecommendationRepository recommendationRepository;
 
     private final UserService userService;
+    private final ReviewBatchLoader reviewBatchLoader;
     private final FcmService fcmService;
     private final S3Uploader s3Uploader;
 
@@ -107,7 +105,7 @@ public class ReviewService {
 
     // 리뷰 등록
     @Transactional
-    public ResponseEntity<?> postReview(UserPrincipal userPrincipal, PostReviewReq postReviewReq, Optional<MultipartFile[]> images) throws FirebaseMessagingException {
+    public ResponseEntity<?> postReview(UserPrincipal userPrincipal, PostReviewReq postReviewReq, Optional<MultipartFile[]> images) {
         User user = userService.validateUserById(userPrincipal.getId());
         Restaurant restaurant = validateRestaurantById(postReviewReq.getRestaurantId());
 
@@ -122,6 +120,9 @@ public class ReviewService {
                 .restaurant(restaurant)
                 .build();
         reviewRepository.save(review);
+        // 식당 리뷰 수 증가, 평점 반영
+        restaurantRepository.updateReviewCount(restaurant.getId(), 1);
+        updateRestaurantRating(restaurant.getId(), null, review.getRate());
 
         if (hasImages) {
             uploadReviewImages(images.get(), review);
@@ -152,26 +153,18 @@ public class ReviewService {
         imageRepository.saveAll(reviewImages);
     }
 
-    // 매일 0시 정각 리뷰 평점 업데이트
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void updateReviewRatings() {
-        LocalDateTime start = LocalDateTime.now().minusDays(1);
-        LocalDateTime end = LocalDateTime.now();
-        // 변경된 리뷰가 있는 식당 가져오기
-        List<Restaurant> updatedRestaurants = reviewRepository.findDistinctRestaurantsByModifiedDate(start, end);
-        for (Restaurant restaurant : updatedRestaurants) {
-            // 평균 평점 구하기
-            BigDecimal averageRate = reviewRepository.findAverageRateByRestaurant(restaurant);
-            // 소수점 둘째 자리에서 반올림
-            BigDecimal roundedAverageRate = averageRate.setScale(1, RoundingMode.HALF_UP);
-            restaurant.updateRate(roundedAverageRate.doubleValue());
+    // 식당 평점 합계 / 개수를 O(1)로 증감 (removedRate 제거, addedRate 추가) - 평점이 없는 리뷰는 개수에서 제외
+    private void updateRestaurantRating(Long restaurantId, Double removedRate, Double addedRate) {
+        double rateDelta = (addedRate == null ? 0 : addedRate) - (removedRate == null ? 0 : removedRate);
+        int countDelta = (addedRate == null ? 0 : 1) - (removedRate == null ? 0 : 1);
+        if (rateDelta != 0 || countDelta != 0) {
+            restaurantRepository.updateRating(restaurantId, rateDelta, countDelta);
         }
     }
 
     // 리뷰 추천
     @Transactional
-    public ResponseEntity<?> recommendReviews(UserPrincipal userPrincipal, Long reviewId) throws FirebaseMessagingException {
+    public ResponseEntity<?> recommendReviews(UserPrincipal userPrincipal, Long reviewId) {
         User user = userService.validateUserById(userPrincipal.getId());
         Review review = validateReviewById(reviewId);
 
@@ -183,9 +176,11 @@ public class ReviewService {
             // 재추천
             if (recommendation.getStatus() == Status.DELETE) {
                 recommendation.updateStatus(Status.ACTIVE);
+                reviewRepository.updateRecommendationCount(reviewId, 1);
             // 추천 취소
             } else {
                 recommendation.updateStatus(Status.DELETE);
+                reviewRepository.updateRecommendationCount(reviewId, -1);
                 isRecommend = false;
             }
         } else {
@@ -193,6 +188,7 @@ public class ReviewService {
                     .review(review)
                     .user(user).build();
             recommendationRepository.save(recommendation);
+            reviewRepository.updateRecommendationCount(reviewId, 1);
             // 리뷰 작성자에게 포인트 부여
             User writer = review.getUser();
             // Description: 탈퇴한 유저의 알림 저장 방지
@@ -201,12 +197,12 @@ public class ReviewService {
                 userService.checkUserLevel(user);
                 // 푸시알림
                 String msg = "'" + user.getNickname() + "'" + "님의 리뷰가 추천을 받았어요.";
-                FcmSendDto fcmSendDto = fcmService.makeFcmSendDto(review.getUser().getFcmToken(), AlarmType.MAP, reviewId, msg, MessageType.REVIEW_RECOMMEND, null);
-                fcmService.sendMessageTo(fcmSendDto);
+                FcmSendDto fcmSendDto = fcmService.makeFcmSendDto(writer.getFcmToken(), AlarmType.MAP, reviewId, msg, MessageType.REVIEW_RECOMMEND, null);
+                fcmService.sendMessageTo(writer, fcmSendDto, review.getRestaurant().getId());
             }
         }
 
-        int count = recommendationRepository.countByReviewAndStatus(review, Status.ACTIVE);
+        int count = reviewRepository.findRecommendationCountById(reviewId);
 
         RecommendationByUserAndReviewRes recommendationRes = RecommendationByUserAndReviewRes.builder()
                 .recommendationCount(count)
@@ -225,11 +221,15 @@ public class ReviewService {
     // Description : 수정 시 무조건 이미지 삭제
     // 추가할 이미지, 삭제할 이미지 나눠서 받기?
     @Transactional
-    public ResponseEntity<?> updateReview(UserPrincipal userPrincipal, Long reviewId, UpdateReviewReq updateReviewReq, Optional<MultipartFile[]> images) throws FirebaseMessagingException {
+    public ResponseEntity<?> updateReview(UserPrincipal userPrincipal, Long reviewId, UpdateReviewReq updateReviewReq, Optional<MultipartFile[]> images) {
         User user = userService.validateUserById(userPrincipal.getId());
         Review review = validateReviewById(reviewId);
 
         DefaultAssert.isTrue(review.getUser() == user, "리뷰 수정 권한이 없습니다.");
+        // 노출 중인 리뷰면 식당 평점에서 이전 평점을 빼고 새 평점 반영
+        if (review.getVisible()) {
+            updateRestaurantRating(review.getRestaurant().getId(), review.getRate(), updateReviewReq.getRate());
+        }
         review.updateReview(updateReviewReq.getContent(), updateReviewReq.getRate());
         // 수정 시 무조건 이미지 삭제
         deleteReviewImages(review);
@@ -258,7 +258,7 @@ public class ReviewService {
 
     // 리뷰 삭제 - 검증된 리뷰 삭제시 리워드 회수
     @Transactional
-    public ResponseEntity<?> deleteReview(UserPrincipal userPrincipal, Long reviewId) throws FirebaseMessagingException {
+    public ResponseEntity<?> deleteReview(UserPrincipal userPrincipal, Long reviewId) {
             User user = userService.validateUserById(userPrincipal.getId());
             Review review = validateReviewById(reviewId);
 
@@ -270,6 +270,11 @@ public class ReviewService {
             // 이미지 삭제
             deleteReviewImages(review);
             reviewRepository.delete(review);
+            // 식당 리뷰 수 감소, 평점 제거
+            restaurantRepository.updateReviewCount(review.getRestaurant().getId(), -1);
+            if (review.getVisible()) {
+                updateRestaurantRating(review.getRestaurant().getId(), review.getRate(), null);
+            }
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -292,7 +297,7 @@ public class ReviewService {
 
     // 리뷰 신고
     @Transactional
-    public ResponseEntity<?> reportReview(UserPrincipal userPrincipal, Long reviewId, ReportContentReq reportContentReq) throws FirebaseMessagingException {
+    public ResponseEntity<?> reportReview(UserPrincipal userPrincipal, Long reviewId, ReportContentReq reportContentReq) {
         User user = userService.validateUserById(userPrincipal.getId());
         Review review = validateReviewById(reviewId);
 
@@ -307,7 +312,7 @@ public class ReviewService {
         // 푸시알림 생성
         String msg = "리뷰 신고가 정상적으로 접수되었어요. 운영자의 검토 후 조치를 취할 예정이에요.";
         FcmSendDto fcmSendDto = fcmService.makeFcmSendDto(user.getFcmToken(), AlarmType.MAP, reviewId, msg, MessageType.REVIEW_REPORT, null);
-        fcmService.sendMessageTo(fcmSendDto);
+        fcmService.sendMessageTo(user, fcmSendDto, review.getRestaurant().getId());
 
         ApiResponse apiResponse = ApiResponse.builder()
                 .check(true)
@@ -322,6 +327,7 @@ public class ReviewService {
         PageRequest pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "modifiedDate"));
 
         Page<Review> myReviews = reviewRepository.findReviewsByUserAndVisible(user, pageable, true);
+        ReviewBatchLoader.ReviewBatch reviewBatch = reviewBatchLoader.load(user, myReviews.getContent());
         List<MyReviewRes> myReviewResList = myReviews.stream()
                 .map(review -> MyReviewRes.builder()
                         .reviewId(review.getId())
@@ -329,9 +335,9 @@ public class ReviewService {
                         .date(review.getModifiedDate().toLocalDate())
                         .rate(review.getRate())
                         .content(review.getContent())
-                        .countRecommendation(recommendationRepository.countByReviewAndStatus(review, Status.ACTIVE))
-                        .isRecommendation(recommendationRepository.existsByUserAndReviewAndStatus(user, review, Status.ACTIVE))
-                        .images(imageRepository.findByReview(review))
+                        .countRecommendation(review.getRecommendationCount())
+                        .isRecommendation(reviewBatch.isRecommendedBy(review))
+                        .images(reviewBatch.imagesOf(review))
                         .build())
                 .toList();
 
@@ -343,6 +349,35 @@ public class ReviewService {
         return ResponseEntity.ok(apiResponse);
     }
 
+    // Description : 유저의 리뷰 목록 커서 조회 (최신순) - offset / count 없이 커서 위치부터 10개
+    public ResponseEntity<?> findReviewsByUserByCursor(UserPrincipal userPrincipal, String cursor) {
+        User user = userService.validateUserById(userPrincipal.getId());
+        Cursor position = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Review> reviews = reviewRepository.findReviewsByUserAndVisibleAfterCursor(user, true, position.dateTime(), position.id(), PageRequest.of(0, 11));
+        CursorSlice<Review> reviewSlice = CursorSlice.of(reviews, 10, review -> Cursor.of(review.getModifiedDate(), review.getId()));
+
+        ReviewBatchLoader.ReviewBatch reviewBatch = reviewBatchLoader.load(user, reviewSlice.contents());
+        CursorSlice<MyReviewRes> myReviewResSlice = reviewSlice.map(review -> MyReviewRes.builder()
+                .reviewId(review.getId())
+                .restaurantName(review.getRestaurant().getName())
+                .date(review.getModifiedDate().toLocalDate())
+                .rate(review.getRate())
+                .content(review.getContent())
+                .countRecommendation(review.getRecommendationCount())
+                .isRecommendation(reviewBatch.isRecommendedBy(review))
+                .images(reviewBatch.imagesOf(review))
+                .build());
+
+        ApiResponse apiResponse = ApiResponse.builder()
+                .check(true)
+                .information(myReviewResSlice)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     public Restaurant validateRestaurantById(Long restaurantId) {
         Optional<Restaurant> restaurant = restaurantRepository.findById(restaurantId);
         DefaultAssert.isTrue(restaurant.isPresent(), "식당 정보가 올바르지 않습니다.");
@@ -11,12 +11,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_review_restaurant_type_recommendation", columnList = "restaurant_id, reviewType, recommendationCount"),
+        @Index(name = "idx_review_restaurant_recommendation", columnList = "restaurant_id, recommendationCount"),
+        @Index(name = "idx_review_restaurant_type_modified", columnList = "restaurant_id, reviewType, modifiedDate, id"),
+        @Index(name = "idx_review_restaurant_modified", columnList = "restaurant_id, modifiedDate, id"),
+        @Index(name = "idx_review_user_visible_modified", columnList = "user_id, visible, modifiedDate, id")
+})
 public class Review extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +50,12 @@ public class Review extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Inspection inspection; // 검수 여부
 
+    // ACTIVE 상태의 추천 수 - 추천 / 추천 취소 시 updateRecommendationCount로만 갱신
+    // 리뷰 수정 / 검수 등으로 엔티티를 저장할 때 조회 시점의 값으로 덮어쓰지 않도록 INSERT / UPDATE에서 제외
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    private int recommendationCount;
+
     @OneToMany(mappedBy = "review", cascade = CascadeType.REMOVE)
     private List<Recommendation> recommendations;
 
@@ -10,11 +10,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -30,21 +32,67 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     int countAllByRestaurant(Restaurant restaurant);
 
-    // 추천순 정렬
-    @Query("SELECT r FROM Review r LEFT JOIN Recommendation rec ON r.id = rec.review.id WHERE r.restaurant = :restaurant GROUP BY r.id ORDER BY COUNT(rec) DESC")
+    // 식당별 리뷰 수 [식당 id, 리뷰 수]
+    @Query("SELECT r.restaurant.id, COUNT(r) FROM Review r GROUP BY r.restaurant.id")
+    List<Object[]> countGroupByRestaurant();
+
+    // 추천순 정렬 - (restaurant_id, recommendation_count) 인덱스 순서로 페이징
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT r FROM Review r WHERE r.restaurant = :restaurant ORDER BY r.recommendationCount DESC, r.id DESC")
     Page<Review> findReviewsByRestaurantOrderByRecommendationCount(Pageable pageable, Restaurant restaurant);
 
-    // 추천순 정렬 - 포토 리뷰만
-    @Query("SELECT r FROM Review r LEFT JOIN Recommendation rec ON r.id = rec.review.id WHERE r.restaurant = :restaurant AND r.reviewType = :reviewType GROUP BY r.id ORDER BY COUNT(rec) DESC")
+    // 추천순 정렬 - 포토 리뷰만, (restaurant_id, review_type, recommendation_count) 인덱스 순서로 페이징
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT r FROM Review r WHERE r.restaurant = :restaurant AND r.reviewType = :reviewType ORDER BY r.recommendationCount DESC, r.id DESC")
     Page<Review> findReviewsByRestaurantAndReviewTypeOrderByRecommendationCount(Pageable pageable, Restaurant restaurant, ReviewType reviewType);
 
-    @Query("SELECT DISTINCT r.restaurant FROM Review r WHERE r.modifiedDate >= :start AND r.modifiedDate <= :end")
-    List<Restaurant> findDistinctRestaurantsByModifiedDate(LocalDateTime start, LocalDateTime end);
+    // 추천 수 증감 - 동시 요청에도 누락되지 않도록 DB에서 원자적으로 갱신
+    @Modifying
+    @Query("UPDATE Review r SET r.recommendationCount = r.recommendationCount + :delta WHERE r.id = :reviewId")
+    int updateRecommendationCount(Long reviewId, int delta);
+
+    @Query("SELECT r.recommendationCount FROM Review r WHERE r.id = :reviewId")
+    int findRecommendationCountById(Long reviewId);
+
+    // 리뷰별 [리뷰 id, 추천 수]
+    @Query("SELECT r.id, r.recommendationCount FROM Review r")
+    List<Object[]> findAllRecommendationCounts();
+
+    @Modifying
+    @Query("UPDATE Review r SET r.recommendationCount = :recommendationCount WHERE r.id = :reviewId")
+    int updateRecommendationCountTo(Long reviewId, int recommendationCount);
 
-    @Query("SELECT AVG(r.rate) FROM Review r WHERE r.restaurant = :restaurant AND r.visible = true")
-    BigDecimal findAverageRateByRestaurant(Restaurant restaurant);
+    // 식당별 노출 중인 리뷰의 [식당 id, 평점 합계, 평점 개수]
+    @Query("SELECT r.restaurant.id, SUM(r.rate), COUNT(r.rate) FROM Review r WHERE r.visible = true GROUP BY r.restaurant.id")
+    List<Object[]> sumRateGroupByRestaurant();
 
+    @EntityGraph(attributePaths = {"restaurant"})
     Page<Review> findReviewsByUserAndVisible(User user, PageRequest pageable, boolean b);
 
+    // 키셋 페이징 - 커서(modifiedDate, id) 이후의 유저 리뷰를 (user_id, visible, modified_date, id) 인덱스 순서로 조회
+    @EntityGraph(attributePaths = {"restaurant"})
+    @Query("SELECT r FROM Review r WHERE r.user = :user AND r.visible = :visible " +
+            "AND (r.modifiedDate < :cursorDate OR (r.modifiedDate = :cursorDate AND r.id < :cursorId)) " +
+            "ORDER BY r.modifiedDate DESC, r.id DESC")
+    List<Review> findReviewsByUserAndVisibleAfterCursor(User user, boolean visible, LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // 키셋 페이징 - 커서(modifiedDate, id) 이후의 식당 리뷰를 (restaurant_id, modified_date, id) 인덱스 순서로 조회
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT r FROM Review r WHERE r.restaurant = :restaurant " +
+            "AND (r.modifiedDate < :cursorDate OR (r.modifiedDate = :cursorDate AND r.id < :cursorId)) " +
+            "ORDER BY r.modifiedDate DESC, r.id DESC")
+    List<Review> findReviewsByRestaurantAfterCursor(Restaurant restaurant, LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
+    // 키셋 페이징 - 포토 리뷰만, (restaurant_id, review_type, modified_date, id) 인덱스 순서로 조회
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT r FROM Review r WHERE r.restaurant = :restaurant AND r.reviewType = :reviewType " +
+            "AND (r.modifiedDate < :cursorDate OR (r.modifiedDate = :cursorDate AND r.id < :cursorId)) " +
+            "ORDER BY r.modifiedDate DESC, r.id DESC")
+    List<Review> findReviewsByRestaurantAndReviewTypeAfterCursor(Restaurant restaurant, ReviewType reviewType, LocalDateTime cursorDate, Long cursorId, Pageable pageable);
+
     Restaurant findRestaurantById(Long reviewId);
+
+    // 리뷰별 식당 id [리뷰 id, 식당 id] - 삭제된 리뷰는 결과에서 빠짐
+    @Query("SELECT r.id, r.restaurant.id FROM Review r WHERE r.id IN :reviewIds")
+    List<Object[]> findRestaurantIdsByIdIn(Collection<Long> reviewIds);
 }
@@ -8,9 +8,9 @@ import com.beginvegan.domain.review.dto.response.MyReviewRes;
 import com.beginvegan.domain.review.dto.response.RestaurantInfoRes;
 import com.beginvegan.global.config.security.token.CurrentUser;
 import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.CursorSlice;
 import com.beginvegan.global.payload.ErrorResponse;
 import com.beginvegan.global.payload.Message;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -48,6 +48,19 @@ public class ReviewController {
         return reviewService.findReviewsByUser(userPrincipal, page);
     }
 
+    @Operation(summary = "유저의 리뷰 조희 (커서)", description = "유저의 리뷰들을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "유저 리뷰 목록 조회 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = CursorSlice.class))}),
+            @ApiResponse(responseCode = "400", description = "유저 리뷰 목록 조회 실패", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))}),
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<?> findReviewsByUserByCursor(
+            @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor입니다. 첫 페이지는 비워주세요.") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return reviewService.findReviewsByUserByCursor(userPrincipal, cursor);
+    }
+
     @Operation(summary = "리뷰 등록", description = "리뷰를 등록합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "리뷰 등록 성공", content = {@Content(mediaType = "application/json", schema = @Schema(implementation = Message.class)) } ),
@@ -59,7 +72,7 @@ public class ReviewController {
             @Parameter(description = "PostReviewReq Schema를 확인해주세요.", required = true) @Valid @RequestPart PostReviewReq postReviewReq,
             @Parameter(description = "form-data 형식의 Multipart-file을 입력해주세요.") @RequestPart Optional<MultipartFile[]> files
 
-    ) throws FirebaseMessagingException {
+    ) {
         return reviewService.postReview(userPrincipal, postReviewReq, files);
     }
 
@@ -90,7 +103,7 @@ public class ReviewController {
     public ResponseEntity<?> deleteReview(
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "리뷰 id를 입력해주세요..", required = true) @PathVariable Long reviewId
-    ) throws FirebaseMessagingException {
+    ) {
         return reviewService.deleteReview(userPrincipal, reviewId);
     }
 
@@ -101,7 +114,7 @@ public class ReviewController {
             @Parameter(description = "리뷰 id를 입력해주세요..", required = true) @PathVariable Long reviewId,
             @Parameter(description = "UpdateReviewReq Schema를 확인해주세요.", required = true) @Valid @RequestPart UpdateReviewReq updateReviewReq,
             @Parameter(description = "form-data 형식의 Multipart-file을 입력해주세요.") @RequestPart Optional<MultipartFile[]> files
-    ) throws FirebaseMessagingException {
+    ) {
         return reviewService.updateReview(userPrincipal, reviewId, updateReviewReq, files);
     }
 
@@ -110,7 +123,7 @@ public class ReviewController {
     public ResponseEntity<?> recommendReview(
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "리뷰 id를 입력해주세요..", required = true) @PathVariable Long reviewId
-    ) throws FirebaseMessagingException {
+    ) {
         return reviewService.recommendReviews(userPrincipal, reviewId);
     }
 
@@ -120,7 +133,7 @@ public class ReviewController {
             @Parameter(description = "Accesstoken을 입력해주세요.", required = true) @CurrentUser UserPrincipal userPrincipal,
             @Parameter(description = "리뷰 id를 입력해주세요..", required = true) @PathVariable Long reviewId,
             @Parameter(description = "리뷰 신고 사유입니다.", required = true) @Valid @RequestBody ReportContentReq reportContentReq
-    ) throws FirebaseMessagingException {
+    ) {
         return reviewService.reportReview(userPrincipal, reviewId, reportContentReq);
     }
 
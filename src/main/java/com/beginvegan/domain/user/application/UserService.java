@@ -1,6 +1,7 @@
 package com.beginvegan.domain.user.application;
 
 import com.beginvegan.domain.alarm.domain.AlarmType;
+import com.beginvegan.domain.auth.application.TokenDenyList;
 import com.beginvegan.domain.auth.domain.Token;
 import com.beginvegan.domain.auth.domain.repository.TokenRepository;
 import com.beginvegan.domain.auth.exception.InvalidTokenException;
@@ -19,7 +20,6 @@ import com.beginvegan.global.error.DefaultException;
 import com.beginvegan.global.payload.ApiResponse;
 import com.beginvegan.global.payload.ErrorCode;
 import com.beginvegan.global.payload.Message;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -44,6 +44,7 @@ public class UserService {
     private final TokenRepository tokenRepository;
     private final S3Uploader s3Uploader;
     private final FcmService fcmService;
+    private final TokenDenyList tokenDenyList;
 
     private static final int SALT_LENGTH = 16;
 
@@ -76,7 +77,7 @@ public class UserService {
 
     // Description : 비건 타입 변경
     @Transactional
-    public ResponseEntity<?> updateVeganType(UserPrincipal userPrincipal, UpdateVeganTypeReq updateVeganTypeReq, String type) throws FirebaseMessagingException {
+    public ResponseEntity<?> updateVeganType(UserPrincipal userPrincipal, UpdateVeganTypeReq updateVeganTypeReq, String type) {
         User user = validateUserById(userPrincipal.getId());
         user.updateVeganType(updateVeganTypeReq.getVeganType());
         if (Objects.equals(type, "TEST")) {
@@ -149,7 +150,7 @@ public class UserService {
         // 이미지 수정
         file.ifPresent(multipartFile -> {
             try { updateProfileImage(user, isDefaultImage, multipartFile);
-            } catch (IOException | FirebaseMessagingException e) { throw new RuntimeException(e); }
+            } catch (IOException e) { throw new RuntimeException(e); }
         });
 
         ApiResponse apiResponse = ApiResponse.builder()
@@ -167,7 +168,7 @@ public class UserService {
         return String.format("%04d", count + 1);
     }
 
-    private void updateProfileImage(User user, Boolean isDefaultImage, MultipartFile file) throws IOException, FirebaseMessagingException {
+    private void updateProfileImage(User user, Boolean isDefaultImage, MultipartFile file) throws IOException {
         if (user.getImageUrl().contains("amazonaws.com/")) {
             // 기존 프로필 이미지 삭제
             String originalFile = user.getImageUrl().split("amazonaws.com/")[1];
@@ -190,7 +191,7 @@ public class UserService {
     }
 
     // Description : 프로필 최초 설정 시 포인트 지급
-    private void rewardInitialProfileImage(User user, Boolean isDefaultImage) throws FirebaseMessagingException {
+    private void rewardInitialProfileImage(User user, Boolean isDefaultImage) {
         // 프로필 이미지 설정 여부 확인
         if (!user.getCustomProfileCompleted()) {
             if (!isDefaultImage) {
@@ -203,7 +204,7 @@ public class UserService {
     }
 
     // Description : 비건테스트 최초 수행 시 포인트 지급
-    private void rewardInitialVeganTest(User user) throws FirebaseMessagingException {
+    private void rewardInitialVeganTest(User user) {
         if (!user.getVeganTestCompleted()) {
             user.updatePoint(1);
             user.updateVeganTestCompleted(true);
@@ -248,14 +249,14 @@ public class UserService {
 
     // userLevel 변경 확인 후 푸시 알림
     @Transactional
-    public void checkUserLevel(User user) throws FirebaseMessagingException {
+    public void checkUserLevel(User user) {
         UserLevel originalLevel = user.getUserLevel();
         UserLevel newLevel = countUserLevel(user.getPoint());
         if (originalLevel != newLevel) {
             if (newLevel.getOrder() > originalLevel.getOrder()) {
                 String msg = "나만의 식물이 성장했어요. mypage에서 확인해 보세요!";
                 FcmSendDto fcmSendDto = fcmService.makeFcmSendDto(user.getFcmToken(), AlarmType.MYPAGE, null, msg, MessageType.LEVEL_UP, newLevel);
-                fcmService.sendMessageTo(fcmSendDto);
+                fcmService.sendMessageTo(user, fcmSendDto);
             }
             user.updateUserLevel(newLevel);
         }
@@ -302,6 +303,8 @@ public class UserService {
                 .orElseThrow(InvalidTokenException::new);
 
         tokenRepository.delete(token);
+        // 이미 발급된 액세스 토큰도 거부
+        tokenDenyList.revoke(user.getId());
 
         // 개인정보 해시함수로 암호화
         hashingUser(user);
@@ -322,13 +325,14 @@ public class UserService {
             byte[] hashEmailBytes = digest.digest(concatenate(user.getEmail().getBytes(), salt));
             byte[] hashPasswordBytes = digest.digest(concatenate(user.getPassword().getBytes(), salt));
             byte[] hashProviderIdBytes = digest.digest(concatenate(user.getProviderId().getBytes(), salt));
-            byte[] hashFcmTokenBytes = digest.digest(concatenate(user.getFcmToken().getBytes(), salt));
 
             // 해시된 바이트 배열을 Base64 문자열로 변환
             String hashedEmail = Base64.getEncoder().encodeToString(hashEmailBytes);
             String hashedPassword = Base64.getEncoder().encodeToString(hashPasswordBytes);
             String hashedProviderId = Base64.getEncoder().encodeToString(hashProviderIdBytes);
-            String hashedFcmToken = Base64.getEncoder().encodeToString(hashFcmTokenBytes);
+            // 무효 토큰 정리로 FCM 토큰이 지워진 유저는 해시할 토큰이 없음
+            String hashedFcmToken = user.getFcmToken() == null ? null
+                    : Base64.getEncoder().encodeToString(digest.digest(concatenate(user.getFcmToken().getBytes(), salt)));
 
             user.softDeleteUser(hashedEmail + "@email.com", hashedPassword, hashedProviderId, hashedFcmToken);
         } catch (NoSuchAlgorithmException e) {
@@ -14,6 +14,7 @@ import lombok.Getter;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_user_fcm_token", columnList = "fcmToken"))
 public class User extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,10 +1,13 @@
 package com.beginvegan.domain.user.domain.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import com.beginvegan.domain.user.domain.User;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +19,9 @@ public interface UserRepository extends JpaRepository<User,Long>{
     Optional<User> findTopByNicknameOrderByUserCodeDesc(String nickname);
 
     Optional<User> findByFcmToken(String token);
+
+    // FCM이 더 이상 유효하지 않다고 응답한 토큰 정리
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = null WHERE u.fcmToken IN :tokens")
+    int clearFcmTokens(Collection<String> tokens);
 }
@@ -8,13 +8,19 @@ import org.springframework.core.io.support.PropertySourceFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Properties;
 
 public class YamlPropertySourceFactory implements PropertySourceFactory {
 
         @Override
-        public PropertySource<?> createPropertySource(@Nullable String name, EncodedResource resource) {
+        public PropertySource<?> createPropertySource(@Nullable String name, EncodedResource resource) throws IOException {
+            // 없는 파일은 FileNotFoundException으로 알려야 ignoreResourceNotFound가 동작
+            if (!resource.getResource().exists()) {
+                throw new FileNotFoundException(resource.getResource().getDescription());
+            }
             Properties yamlProperties = loadYamlProperties(resource);
             String sourceName = StringUtils.hasText(name) ? name : resource.getResource().getFilename();
             return new PropertiesPropertySource(Objects.requireNonNull(sourceName), Objects.requireNonNull(yamlProperties));
@@ -37,6 +37,12 @@ public class UserPrincipal implements OAuth2User, UserDetails{
         );
     }
 
+    // 액세스 토큰 claim으로 생성 (비밀번호 없음)
+    public static UserPrincipal create(Long id, String email, String role) {
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
+        return new UserPrincipal(id, email, null, authorities);
+    }
+
     public static UserPrincipal create(User user, Map<String, Object> attributes) {
         UserPrincipal userPrincipal = UserPrincipal.create(user);
         userPrincipal.setAttributes(attributes);
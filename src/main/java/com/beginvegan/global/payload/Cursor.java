@@ -0,0 +1,38 @@
+package com.beginvegan.global.payload;
+
+import com.beginvegan.global.error.DefaultException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Description : 키셋(커서) 페이징 위치 - (정렬 기준 일시, id)를 클라이언트에는 불투명한 문자열로 전달
+public record Cursor(LocalDateTime dateTime, Long id) {
+
+    // 첫 페이지 - 모든 행보다 뒤에 있는 위치 (DATETIME 최댓값)
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static Cursor of(LocalDateTime dateTime, Long id) {
+        return new Cursor(dateTime, id);
+    }
+
+    public String encode() {
+        String raw = dateTime + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] decoded = raw.split(",");
+            return new Cursor(LocalDateTime.parse(decoded[0]), Long.parseLong(decoded[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new DefaultException(ErrorCode.INVALID_PARAMETER, "유효한 커서가 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.beginvegan.global.payload;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Description : 키셋 페이징 응답 - count 쿼리 없이 size + 1개를 조회해 다음 페이지 존재 여부만 판단
+public record CursorSlice<T>(List<T> contents, String nextCursor, boolean hasNext) {
+
+    // size + 1개 조회 결과에서 초과분을 잘라내고 마지막 행의 위치를 다음 커서로 사용
+    public static <T> CursorSlice<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> contents = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(contents.get(contents.size() - 1)).encode() : null;
+        return new CursorSlice<>(contents, nextCursor, hasNext);
+    }
+
+    public <R> CursorSlice<R> map(Function<T, R> mapper) {
+        return new CursorSlice<>(contents.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
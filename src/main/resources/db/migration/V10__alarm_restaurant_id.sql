@@ -0,0 +1,7 @@
+-- MAP 알림의 이동 대상 식당 id를 알림에 저장 - 기존 알림은 리뷰에서 채움 (삭제된 리뷰는 NULL)
+ALTER TABLE alarm ADD COLUMN restaurant_id BIGINT;
+
+UPDATE alarm a
+    JOIN review r ON a.item_id = r.id
+SET a.restaurant_id = r.restaurant_id
+WHERE a.alarm_type = 'MAP';
@@ -0,0 +1,2 @@
+-- 만료 알림 정리 시 기준 시각 이전 마지막 알림 id 조회용 인덱스
+CREATE INDEX idx_alarm_created_date ON alarm (created_date);
@@ -0,0 +1,6 @@
+-- 식당 좌표를 문자열에서 DOUBLE 컬럼으로 변경하고 위경도 범위 조회용 인덱스 추가
+ALTER TABLE restaurant
+    MODIFY COLUMN latitude DOUBLE,
+    MODIFY COLUMN longitude DOUBLE;
+
+CREATE INDEX idx_restaurant_latitude_longitude ON restaurant (latitude, longitude);
@@ -0,0 +1,11 @@
+-- 식당 정렬용 리뷰 수 / 스크랩 수 컬럼 추가 후 현재 값으로 채움
+ALTER TABLE restaurant
+    ADD COLUMN review_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN bookmark_count INT NOT NULL DEFAULT 0;
+
+UPDATE restaurant r
+SET r.review_count   = (SELECT COUNT(*) FROM review rev WHERE rev.restaurant_id = r.id),
+    r.bookmark_count = (SELECT COUNT(*) FROM bookmark b WHERE b.content_id = r.id AND b.content_type = 'RESTAURANT');
+
+CREATE INDEX idx_restaurant_review_count ON restaurant (review_count, id);
+CREATE INDEX idx_restaurant_bookmark_count ON restaurant (bookmark_count, id);
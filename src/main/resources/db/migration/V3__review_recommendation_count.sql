@@ -0,0 +1,9 @@
+-- 리뷰 추천 수 컬럼 추가 후 ACTIVE 추천 수로 채움, 추천순 페이징용 인덱스 추가
+ALTER TABLE review
+    ADD COLUMN recommendation_count INT NOT NULL DEFAULT 0;
+
+UPDATE review r
+SET r.recommendation_count = (SELECT COUNT(*) FROM recommendation rec WHERE rec.review_id = r.id AND rec.status = 'ACTIVE');
+
+CREATE INDEX idx_review_restaurant_type_recommendation ON review (restaurant_id, review_type, recommendation_count);
+CREATE INDEX idx_review_restaurant_recommendation ON review (restaurant_id, recommendation_count);
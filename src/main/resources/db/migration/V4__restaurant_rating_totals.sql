@@ -0,0 +1,11 @@
+-- 식당 평점 합계 / 개수 컬럼 추가 후 노출 중인 리뷰로 채움 (평균 평점은 실시간으로 갱신)
+ALTER TABLE restaurant
+    ADD COLUMN rate_sum DOUBLE NOT NULL DEFAULT 0,
+    ADD COLUMN rate_count INT NOT NULL DEFAULT 0;
+
+UPDATE restaurant r
+SET r.rate_sum   = (SELECT COALESCE(SUM(rev.rate), 0) FROM review rev WHERE rev.restaurant_id = r.id AND rev.visible = TRUE),
+    r.rate_count = (SELECT COUNT(rev.rate) FROM review rev WHERE rev.restaurant_id = r.id AND rev.visible = TRUE);
+
+UPDATE restaurant r
+SET r.rate = CASE WHEN r.rate_count > 0 THEN ROUND(r.rate_sum / r.rate_count, 1) ELSE NULL END;
@@ -0,0 +1,7 @@
+-- 키셋(커서) 페이징용 복합 인덱스 - 정렬 기준 일시 + id 순서로 커서 위치부터 바로 읽음
+CREATE INDEX idx_bookmark_user_type_created ON bookmark (user_id, content_type, created_date, id);
+CREATE INDEX idx_food_created ON food (created_date, id);
+CREATE INDEX idx_magazine_created ON magazine (created_date, id);
+CREATE INDEX idx_review_restaurant_type_modified ON review (restaurant_id, review_type, modified_date, id);
+CREATE INDEX idx_review_restaurant_modified ON review (restaurant_id, modified_date, id);
+CREATE INDEX idx_review_user_visible_modified ON review (user_id, visible, modified_date, id);
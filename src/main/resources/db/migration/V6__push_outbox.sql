@@ -0,0 +1,23 @@
+-- 푸시 알림 outbox - 알림을 발생시킨 트랜잭션에서 저장하고 PushOutboxDispatcher가 전송
+CREATE TABLE push_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT,
+    token           VARCHAR(255),
+    title           VARCHAR(255),
+    body            VARCHAR(255),
+    alarm_type      VARCHAR(255),
+    item_id         BIGINT,
+    message_type    VARCHAR(255),
+    user_level      VARCHAR(255),
+    push_status     VARCHAR(255),
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6),
+    last_error      VARCHAR(500),
+    created_date    DATETIME(6),
+    modified_date   DATETIME(6),
+    status          VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_push_outbox_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_push_outbox_status_next_attempt ON push_outbox (push_status, next_attempt_at);
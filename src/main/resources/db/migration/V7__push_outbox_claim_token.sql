@@ -0,0 +1,5 @@
+-- 묶음 전송 - 디스패처가 한 번에 점유한 알림 묶음의 식별자
+ALTER TABLE push_outbox
+    ADD COLUMN claim_token VARCHAR(36);
+
+CREATE INDEX idx_push_outbox_claim_token ON push_outbox (claim_token);
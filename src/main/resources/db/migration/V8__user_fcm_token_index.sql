@@ -0,0 +1,2 @@
+-- 모바일의 토큰 기반 알림 요청 / 무효 토큰 정리용 인덱스
+CREATE INDEX idx_user_fcm_token ON user (fcm_token);
@@ -0,0 +1,3 @@
+-- 미확인 알림 조회 / 일괄 읽음 처리, 알림 내역 키셋 페이징용 인덱스
+CREATE INDEX idx_alarm_user_read_created ON alarm (user_id, is_read, created_date);
+CREATE INDEX idx_alarm_user_created ON alarm (user_id, created_date, id);
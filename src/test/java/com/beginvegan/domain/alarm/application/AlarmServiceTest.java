@@ -0,0 +1,69 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.domain.alarm.domain.Alarm;
+import com.beginvegan.domain.alarm.domain.AlarmType;
+import com.beginvegan.domain.alarm.domain.repository.AlarmRepository;
+import com.beginvegan.domain.alarm.dto.AlarmHistoryRes;
+import com.beginvegan.domain.alarm.dto.ReadAlarmRes;
+import com.beginvegan.domain.alarm.dto.UnreadAlarmRes;
+import com.beginvegan.domain.review.domain.repository.ReviewRepository;
+import com.beginvegan.domain.user.application.UserService;
+import com.beginvegan.domain.user.domain.User;
+import com.beginvegan.global.config.security.token.UserPrincipal;
+import com.beginvegan.global.payload.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AlarmServiceTest {
+
+    private final AlarmRepository alarmRepository = mock(AlarmRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final User user = mock(User.class);
+    private AlarmService alarmService;
+
+    @BeforeEach
+    void setUp() {
+        alarmService = new AlarmService(alarmRepository, mock(ReviewRepository.class), userService, mock(AlarmUnreadCounter.class));
+        ReflectionTestUtils.setField(alarmService, "historyMaxSize", 2);
+        when(user.getId()).thenReturn(1L);
+        when(userService.validateUserById(1L)).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("알림 내역은 키셋 쿼리로 최신 알림만 조회하고 조회 순서대로 나눠 담는다")
+    void historyUsesKeysetQuery() {
+        Alarm newest = alarm(3L);
+        Alarm read = alarm(2L);
+        read.updateIsRead(true);
+        when(alarmRepository.findByUserAfterCursor(eq(user), any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(newest, read));
+
+        AlarmHistoryRes history = (AlarmHistoryRes) ((ApiResponse) alarmService.getAlarmHistory(UserPrincipal.create(1L, "vegan@test.com", "ROLE_USER")).getBody()).getInformation();
+
+        assertThat(history.getUnreadAlarmResList()).extracting(UnreadAlarmRes::getAlarmId).containsExactly(3L);
+        assertThat(history.getReadAlarmResList()).extracting(ReadAlarmRes::getAlarmId).containsExactly(2L);
+        verify(alarmRepository).updateAllAsRead(user);
+    }
+
+    private Alarm alarm(Long id) {
+        return Alarm.builder()
+                .id(id)
+                .alarmType(AlarmType.TIPS)
+                .itemId(10L)
+                .content("알림")
+                .user(user)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.beginvegan.domain.alarm.application;
+
+import com.beginvegan.global.config.security.token.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlarmStreamServiceTest {
+
+    private AlarmStreamService alarmStreamService;
+
+    @BeforeEach
+    void setUp() {
+        alarmStreamService = new AlarmStreamService();
+        ReflectionTestUtils.setField(alarmStreamService, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(alarmStreamService, "bufferSize", 8);
+        ReflectionTestUtils.setField(alarmStreamService, "concurrency", 1);
+        ReflectionTestUtils.setField(alarmStreamService, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(alarmStreamService, "sendTimeoutMillis", 10_000L);
+        ReflectionTestUtils.setField(alarmStreamService, "maxConnectionsPerUser", 3);
+        alarmStreamService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        alarmStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("유저별 연결 수를 넘으면 가장 오래된 연결부터 정리한다")
+    void limitsConnectionsPerUser() {
+        UserPrincipal user = UserPrincipal.create(1L, "vegan@test.com", "ROLE_USER");
+        UserPrincipal other = UserPrincipal.create(2L, "other@test.com", "ROLE_USER");
+
+        for (int i = 0; i < 5; i++) {
+            alarmStreamService.subscribe(user);
+        }
+        alarmStreamService.subscribe(other);
+
+        Map<Long, Set<?>> subscribers = subscribers();
+        assertThat(subscribers.get(1L)).hasSize(3)
+                .extracting(subscriber -> (long) ReflectionTestUtils.getField(subscriber, "sequence"))
+                .containsExactlyInAnyOrder(3L, 4L, 5L);
+        assertThat(subscribers.get(2L)).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<?>> subscribers() {
+        return (Map<Long, Set<?>>) ReflectionTestUtils.getField(alarmStreamService, "subscribers");
+    }
+}
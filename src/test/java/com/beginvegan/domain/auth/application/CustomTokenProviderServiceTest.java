@@ -0,0 +1,128 @@
+package com.beginvegan.domain.auth.application;
+
+import com.beginvegan.domain.auth.dto.TokenMapping;
+import com.beginvegan.global.config.security.OAuth2Config;
+import com.beginvegan.global.config.security.token.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CustomTokenProviderServiceTest {
+
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+    private CustomTokenProviderService customTokenProviderService;
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        OAuth2Config oAuth2Config = new OAuth2Config();
+        oAuth2Config.getAuth().setTokenSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        oAuth2Config.getAuth().setAccessTokenExpirationMsec(60_000);
+        oAuth2Config.getAuth().setRefreshTokenExpirationMsec(120_000);
+        tokenDenyList = new TokenDenyList(oAuth2Config);
+
+        customTokenProviderService = new CustomTokenProviderService();
+        ReflectionTestUtils.setField(customTokenProviderService, "oAuth2Config", oAuth2Config);
+        ReflectionTestUtils.setField(customTokenProviderService, "customUserDetailsService", customUserDetailsService);
+        ReflectionTestUtils.setField(customTokenProviderService, "tokenDenyList", tokenDenyList);
+        customTokenProviderService.init();
+    }
+
+    @Test
+    @DisplayName("캐시된 키로 서명한 토큰은 다시 파싱되고, claim만으로 인증 정보를 만든다")
+    void tokenSignedWithCachedKeyRoundTrips() {
+        TokenMapping tokenMapping = customTokenProviderService.createToken(authentication(1L, "vegan@test.com", "ROLE_USER"));
+
+        Claims claims = customTokenProviderService.parseValidClaims(tokenMapping.getAccessToken());
+        assertThat(claims).isNotNull();
+        assertThat(customTokenProviderService.validateToken(tokenMapping.getRefreshToken())).isTrue();
+
+        UsernamePasswordAuthenticationToken authentication = customTokenProviderService.getAuthentication(claims);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("vegan@test.com");
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        // claim에 필요한 정보가 모두 있으면 유저를 조회하지 않음
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    @DisplayName("재발급한 액세스 토큰도 같은 키로 검증된다")
+    void refreshedTokenRoundTrips() {
+        TokenMapping tokenMapping = customTokenProviderService.refreshToken(authentication(2L, "admin@test.com", "ROLE_ADMIN"), "refresh");
+
+        assertThat(customTokenProviderService.getUserIdFromToken(tokenMapping.getAccessToken())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 예외 없이 null을 반환한다")
+    void invalidTokenReturnsNull() {
+        String token = customTokenProviderService.createToken(authentication(1L, "vegan@test.com", "ROLE_USER")).getAccessToken();
+
+        assertThat(customTokenProviderService.parseValidClaims(token + "x")).isNull();
+        assertThat(customTokenProviderService.parseValidClaims("not-a-token")).isNull();
+        assertThat(customTokenProviderService.validateToken("not-a-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 이전에 발급된 토큰은 인증 정보를 만들지 않는다")
+    void revokedTokenIsRejected() {
+        String token = customTokenProviderService.createToken(authentication(1L, "vegan@test.com", "ROLE_USER")).getAccessToken();
+        Claims claims = customTokenProviderService.parseValidClaims(token);
+
+        // 무효화 시각은 발급 시각보다 늦어야 하므로 다음 밀리초까지 대기
+        waitForNextMillis();
+        tokenDenyList.revoke(1L);
+
+        assertThat(customTokenProviderService.getAuthentication(claims)).isNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃 직후 같은 초에 다시 로그인해 발급된 토큰은 인증된다")
+    void tokenIssuedRightAfterRevokeIsAccepted() {
+        tokenDenyList.revoke(1L);
+
+        String token = customTokenProviderService.createToken(authentication(1L, "vegan@test.com", "ROLE_USER")).getAccessToken();
+        Claims claims = customTokenProviderService.parseValidClaims(token);
+
+        assertThat(customTokenProviderService.getAuthentication(claims)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("email / role claim이 없는 이전 형식의 토큰은 유저를 조회한다")
+    void legacyTokenFallsBackToUserLookup() {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn("3");
+        when(customUserDetailsService.loadUserById(3L)).thenReturn(UserPrincipal.create(3L, "legacy@test.com", "ROLE_USER"));
+
+        UsernamePasswordAuthenticationToken authentication = customTokenProviderService.getAuthentication(claims);
+
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(3L);
+        verify(customUserDetailsService).loadUserById(any());
+    }
+
+    private void waitForNextMillis() {
+        long now = System.currentTimeMillis();
+        while (System.currentTimeMillis() == now) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(Long id, String email, String role) {
+        UserPrincipal userPrincipal = UserPrincipal.create(id, email, role);
+        return new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+    }
+}
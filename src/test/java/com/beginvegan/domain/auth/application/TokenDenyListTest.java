@@ -0,0 +1,64 @@
+package com.beginvegan.domain.auth.application;
+
+import com.beginvegan.global.config.security.OAuth2Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenyListTest {
+
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        OAuth2Config oAuth2Config = new OAuth2Config();
+        oAuth2Config.getAuth().setAccessTokenExpirationMsec(60_000);
+        tokenDenyList = new TokenDenyList(oAuth2Config);
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 발급된 토큰은 거부하고 무효화되지 않은 유저의 토큰은 통과시킨다")
+    void rejectsTokensIssuedBeforeRevoke() {
+        long before = System.currentTimeMillis();
+        tokenDenyList.revoke(1L);
+
+        assertThat(tokenDenyList.isRevoked(1L, before - 1)).isTrue();
+        assertThat(tokenDenyList.isRevoked(2L, before - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화와 같은 초에 다시 로그인해 발급된 토큰은 거부하지 않는다")
+    void acceptsTokenIssuedInSameSecondAfterRevoke() {
+        revokedAt().put(1L, 1_700_000_000_500L);
+
+        // 같은 초(1_700_000_000)지만 무효화 이후에 발급된 토큰
+        assertThat(tokenDenyList.isRevoked(1L, 1_700_000_000_501L)).isFalse();
+        assertThat(tokenDenyList.isRevoked(1L, 1_700_000_000_500L)).isFalse();
+        // 같은 초에 무효화 이전에 발급된 토큰
+        assertThat(tokenDenyList.isRevoked(1L, 1_700_000_000_499L)).isTrue();
+        // 밀리초 claim이 없는 이전 형식 토큰은 초 미만을 버린 iat로 비교되어 거부
+        assertThat(tokenDenyList.isRevoked(1L, 1_700_000_000_000L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 유효시간이 지난 항목은 제거한다")
+    void removesExpiredEntries() {
+        long now = System.currentTimeMillis();
+        revokedAt().put(1L, now - 120_000);
+        revokedAt().put(2L, now);
+
+        tokenDenyList.removeExpired();
+
+        assertThat(revokedAt()).containsOnlyKeys(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> revokedAt() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(tokenDenyList, "revokedAt");
+    }
+}
@@ -0,0 +1,81 @@
+package com.beginvegan.domain.fcm.application;
+
+import com.beginvegan.domain.fcm.domain.PushOutbox;
+import com.beginvegan.domain.fcm.domain.PushStatus;
+import com.beginvegan.domain.fcm.domain.repository.PushOutboxRepository;
+import com.beginvegan.domain.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PushOutboxServiceTest {
+
+    private final PushOutboxRepository pushOutboxRepository = mock(PushOutboxRepository.class);
+    private PushOutboxService pushOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        pushOutboxService = new PushOutboxService(pushOutboxRepository, mock(UserRepository.class));
+        ReflectionTestUtils.setField(pushOutboxService, "maxAttempts", 5);
+        ReflectionTestUtils.setField(pushOutboxService, "backoffMillis", 30_000L);
+        ReflectionTestUtils.setField(pushOutboxService, "maxBackoffMillis", 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도마다 두 배로 늘고 최대 간격을 넘지 않는다")
+    void backoffDoublesUpToMax() {
+        assertThat(pushOutboxService.retryDelayMillis(1)).isEqualTo(30_000);
+        assertThat(pushOutboxService.retryDelayMillis(2)).isEqualTo(60_000);
+        assertThat(pushOutboxService.retryDelayMillis(3)).isEqualTo(120_000);
+        assertThat(pushOutboxService.retryDelayMillis(7)).isEqualTo(1_920_000);
+        assertThat(pushOutboxService.retryDelayMillis(8)).isEqualTo(3_600_000);
+    }
+
+    @Test
+    @DisplayName("시도 횟수가 0이거나 매우 커도 간격이 음수 / 넘침이 되지 않는다")
+    void backoffIsBoundedAtEdges() {
+        assertThat(pushOutboxService.retryDelayMillis(0)).isEqualTo(30_000);
+        assertThat(pushOutboxService.retryDelayMillis(64)).isEqualTo(3_600_000);
+        assertThat(pushOutboxService.retryDelayMillis(Integer.MAX_VALUE)).isEqualTo(3_600_000);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패는 다음 시도 시각을 간격만큼 뒤로 예약한다")
+    void retriableFailureSchedulesRetry() {
+        PushOutbox pushOutbox = pushOutbox(2);
+
+        pushOutboxService.markFailed(1L, "UNAVAILABLE", true);
+
+        assertThat(pushOutbox.getPushStatus()).isEqualTo(PushStatus.PENDING);
+        assertThat(ChronoUnit.MILLIS.between(LocalDateTime.now(), pushOutbox.getNextAttemptAt())).isCloseTo(60_000L, within(5_000L));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하거나 재시도해도 실패하는 오류는 dead-letter 처리한다")
+    void deadLetters() {
+        PushOutbox exhausted = pushOutbox(5);
+        pushOutboxService.markFailed(1L, "UNAVAILABLE", true);
+        assertThat(exhausted.getPushStatus()).isEqualTo(PushStatus.DEAD);
+
+        PushOutbox permanent = pushOutbox(1);
+        pushOutboxService.markFailed(1L, "UNREGISTERED", false);
+        assertThat(permanent.getPushStatus()).isEqualTo(PushStatus.DEAD);
+    }
+
+    private PushOutbox pushOutbox(int attempts) {
+        PushOutbox pushOutbox = PushOutbox.builder().token("token").title("title").body("body").build();
+        ReflectionTestUtils.setField(pushOutbox, "attempts", attempts);
+        when(pushOutboxRepository.findById(1L)).thenReturn(Optional.of(pushOutbox));
+        return pushOutbox;
+    }
+}
@@ -0,0 +1,61 @@
+package com.beginvegan.domain.restaurant.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoDistanceCalculatorTest {
+
+    private static final double USER_LATITUDE = 37.5665;
+    private static final double USER_LONGITUDE = 126.9780;
+
+    @Test
+    @DisplayName("근거리(equirectangular 근사)는 하버사인과 0.1% 이내로 같다")
+    void fastPathMatchesHaversine() {
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(USER_LATITUDE, USER_LONGITUDE);
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            double latitude = USER_LATITUDE + (random.nextDouble() - 0.5) * 0.6;
+            double longitude = USER_LONGITUDE + (random.nextDouble() - 0.5) * 0.6;
+            double expected = haversine(latitude, longitude);
+
+            assertThat(geoDistanceCalculator.distance(latitude, longitude)).isCloseTo(expected, within(expected * 0.001 + 1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("원거리는 하버사인으로 계산한다")
+    void slowPathIsHaversine() {
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(USER_LATITUDE, USER_LONGITUDE);
+
+        // 서울 - 부산
+        assertThat(geoDistanceCalculator.distance(35.1796, 129.0756)).isCloseTo(haversine(35.1796, 129.0756), within(1e-9));
+        assertThat(geoDistanceCalculator.distance(35.1796, 129.0756)).isCloseTo(325, within(5.0));
+    }
+
+    @Test
+    @DisplayName("미리 변환한 라디안 / cos(위도)로 계산한 거리는 위경도로 계산한 거리와 같다")
+    void precomputedRadiansMatchDegrees() {
+        GeoDistanceCalculator geoDistanceCalculator = GeoDistanceCalculator.from(USER_LATITUDE, USER_LONGITUDE);
+        double latitude = 37.4979;
+        double longitude = 127.0276;
+        double latitudeRadian = Math.toRadians(latitude);
+
+        assertThat(geoDistanceCalculator.distance(latitudeRadian, Math.toRadians(longitude), Math.cos(latitudeRadian)))
+                .isEqualTo(geoDistanceCalculator.distance(latitude, longitude));
+        assertThat(geoDistanceCalculator.distance(USER_LATITUDE, USER_LONGITUDE)).isZero();
+    }
+
+    private static double haversine(double latitude, double longitude) {
+        double dLatitude = Math.toRadians(latitude - USER_LATITUDE);
+        double dLongitude = Math.toRadians(longitude - USER_LONGITUDE);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(USER_LATITUDE)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return GeoDistanceCalculator.EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,152 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.bookmark.domain.Bookmark;
+import com.beginvegan.domain.bookmark.domain.repository.ContentType;
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import com.beginvegan.domain.review.domain.Review;
+import com.beginvegan.domain.review.domain.ReviewType;
+import com.beginvegan.domain.user.domain.Role;
+import com.beginvegan.domain.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Description : 식당 카운터 보정이 집계 값을 쓰지 않고 UPDATE 안에서 다시 센 값으로 저장하는지 확인
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:restaurant-count;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RestaurantCountReconcilerTest {
+
+    @Autowired
+    private RestaurantCountReconciler restaurantCountReconciler;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("어긋난 리뷰 수 / 스크랩 수는 실제 리뷰, 식당 스크랩 수로 보정된다")
+    void reconcileRepairsDriftedCounts() {
+        User user = persistUser();
+        Restaurant restaurant = persistRestaurant();
+        persistReview(restaurant, user, 4.0);
+        persistReview(restaurant, user, 5.0);
+        entityManager.persist(Bookmark.builder().user(user).contentId(restaurant.getId()).contentType(ContentType.RESTAURANT).build());
+        // 같은 id의 다른 콘텐츠 스크랩은 세지 않음
+        entityManager.persist(Bookmark.builder().user(user).contentId(restaurant.getId()).contentType(ContentType.MAGAZINE).build());
+        restaurantRepository.updateReviewCount(restaurant.getId(), 7);
+
+        restaurantCountReconciler.reconcile();
+
+        assertThat(counts().get(restaurant.getId())).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("엔티티를 저장해도 카운터 컬럼은 메모리의 값으로 덮어쓰지 않는다")
+    void entitySaveDoesNotOverwriteCounters() {
+        Restaurant restaurant = persistRestaurant();
+        restaurantRepository.updateReviewCount(restaurant.getId(), 3);
+        restaurantRepository.updateBookmarkCount(restaurant.getId(), 2);
+
+        // 카운터가 0인 상태로 메모리에 남아 있는 엔티티를 변경해 저장
+        restaurant.updateRate(4.5);
+        entityManager.flush();
+
+        assertThat(counts().get(restaurant.getId())).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("어긋난 평점 합계 / 개수 / 평균은 노출 중인 리뷰의 평점으로 보정된다")
+    void reconcileRatingsRepairsDriftedTotals() {
+        User user = persistUser();
+        Restaurant restaurant = persistRestaurant();
+        persistReview(restaurant, user, 4.0);
+        persistReview(restaurant, user, 4.5);
+        persistReview(restaurant, user, 1.0).updateVisible(false);
+        setRatingTotals(restaurant, 10.0, 1);
+
+        restaurantCountReconciler.reconcileRatings();
+
+        entityManager.clear();
+        Restaurant repaired = restaurantRepository.findById(restaurant.getId()).orElseThrow();
+        assertThat(repaired.getRateSum()).isEqualTo(8.5);
+        assertThat(repaired.getRateCount()).isEqualTo(2);
+        assertThat(repaired.getRate()).isEqualTo(4.3);
+    }
+
+    @Test
+    @DisplayName("노출 중인 리뷰가 없으면 평점 합계 / 개수는 0, 평균은 null로 보정된다")
+    void reconcileRatingsClearsTotalsWithoutVisibleReviews() {
+        Restaurant restaurant = persistRestaurant();
+        setRatingTotals(restaurant, 3.0, 1);
+
+        restaurantCountReconciler.reconcileRatings();
+
+        entityManager.clear();
+        Restaurant repaired = restaurantRepository.findById(restaurant.getId()).orElseThrow();
+        assertThat(repaired.getRateSum()).isZero();
+        assertThat(repaired.getRateCount()).isZero();
+        assertThat(repaired.getRate()).isNull();
+    }
+
+    // 어긋난 평점 합계 / 개수를 직접 기록
+    private void setRatingTotals(Restaurant restaurant, double rateSum, int rateCount) {
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE restaurant SET rate_sum = :rateSum, rate_count = :rateCount, rate = :rateSum WHERE id = :id")
+                .setParameter("rateSum", rateSum)
+                .setParameter("rateCount", rateCount)
+                .setParameter("id", restaurant.getId())
+                .executeUpdate();
+    }
+
+    private Map<Long, Object[]> counts() {
+        Map<Long, Object[]> counts = new HashMap<>();
+        for (Object[] row : restaurantRepository.findAllCounts()) {
+            counts.put((Long) row[0], new Object[]{row[1], row[2]});
+        }
+        return counts;
+    }
+
+    private Restaurant persistRestaurant() {
+        Restaurant restaurant = Restaurant.builder().name("식당").latitude(37.5).longitude(127.0).build();
+        entityManager.persist(restaurant);
+        entityManager.flush();
+        return restaurant;
+    }
+
+    private Review persistReview(Restaurant restaurant, User user, double rate) {
+        Review review = Review.builder().content("리뷰").restaurant(restaurant).user(user).rate(rate).reviewType(ReviewType.NORMAL).build();
+        entityManager.persist(review);
+        return review;
+    }
+
+    private User persistUser() {
+        User user = User.builder().nickname("vegan").email("vegan" + System.nanoTime() + "@test.com").role(Role.USER).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    // 메인 애플리케이션 설정은 배포 환경의 설정 파일(s3, database, oauth2)을 요구하므로 JPA 설정만 따로 구성
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.beginvegan.domain")
+    @EnableJpaRepositories("com.beginvegan.domain")
+    @Import(RestaurantCountReconciler.class)
+    static class TestConfig {
+    }
+}
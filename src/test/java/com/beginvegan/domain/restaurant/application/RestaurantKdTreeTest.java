@@ -0,0 +1,113 @@
+package com.beginvegan.domain.restaurant.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RestaurantKdTreeTest {
+
+    private static final double USER_LATITUDE = 37.5665;
+    private static final double USER_LONGITUDE = 126.9780;
+
+    @Test
+    @DisplayName("가까운 순 조회 결과는 전체 식당을 거리순 정렬한 결과와 같다")
+    void nearestMatchesSortedScan() {
+        long[] ids = new long[3000];
+        double[] latitudes = new double[ids.length];
+        double[] longitudes = new double[ids.length];
+        randomPoints(ids, latitudes, longitudes);
+        RestaurantKdTree kdTree = new RestaurantKdTree(ids, latitudes, longitudes);
+
+        List<RestaurantKdTree.Neighbor> neighbors = kdTree.nearest(USER_LATITUDE, USER_LONGITUDE, 50, null, null);
+
+        List<Integer> expected = sortedByDistance(latitudes, longitudes).subList(0, 50);
+        assertThat(neighbors).extracting(RestaurantKdTree.Neighbor::id)
+                .containsExactlyElementsOf(expected.stream().map(index -> ids[index]).toList());
+        for (int i = 0; i < 50; i++) {
+            int index = expected.get(i);
+            assertThat(neighbors.get(i).distance()).isCloseTo(haversine(latitudes[index], longitudes[index]), within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("커서(거리, id)로 이어서 조회하면 누락 / 중복 없이 이어진다")
+    void cursorPagesAreContiguous() {
+        long[] ids = new long[1000];
+        double[] latitudes = new double[ids.length];
+        double[] longitudes = new double[ids.length];
+        randomPoints(ids, latitudes, longitudes);
+        RestaurantKdTree kdTree = new RestaurantKdTree(ids, latitudes, longitudes);
+
+        List<Long> paged = new ArrayList<>();
+        Double afterDistance = null;
+        Long afterId = null;
+        for (int page = 0; page < 10; page++) {
+            List<RestaurantKdTree.Neighbor> neighbors = kdTree.nearest(USER_LATITUDE, USER_LONGITUDE, 7, afterDistance, afterId);
+            neighbors.forEach(neighbor -> paged.add(neighbor.id()));
+            RestaurantKdTree.Neighbor last = neighbors.get(neighbors.size() - 1);
+            afterDistance = last.distance();
+            afterId = last.id();
+        }
+
+        assertThat(paged).containsExactlyElementsOf(
+                kdTree.nearest(USER_LATITUDE, USER_LONGITUDE, 70, null, null).stream().map(RestaurantKdTree.Neighbor::id).toList());
+    }
+
+    @Test
+    @DisplayName("같은 좌표의 식당은 id 오름차순으로, 커서 경계에서 나뉘어도 이어서 조회된다")
+    void sameDistanceIsOrderedById() {
+        long[] ids = {40, 10, 30, 20, 50};
+        double[] latitudes = {37.5, 37.5, 37.5, 37.5, 37.6};
+        double[] longitudes = {127.0, 127.0, 127.0, 127.0, 127.0};
+        RestaurantKdTree kdTree = new RestaurantKdTree(ids, latitudes, longitudes);
+
+        List<RestaurantKdTree.Neighbor> first = kdTree.nearest(37.5, 127.0, 2, null, null);
+        RestaurantKdTree.Neighbor last = first.get(1);
+        List<RestaurantKdTree.Neighbor> second = kdTree.nearest(37.5, 127.0, 10, last.distance(), last.id());
+
+        assertThat(first).extracting(RestaurantKdTree.Neighbor::id).containsExactly(10L, 20L);
+        assertThat(second).extracting(RestaurantKdTree.Neighbor::id).containsExactly(30L, 40L, 50L);
+    }
+
+    @Test
+    @DisplayName("빈 트리와 0개 요청은 빈 목록을 반환한다")
+    void emptyTree() {
+        RestaurantKdTree kdTree = new RestaurantKdTree(new long[0], new double[0], new double[0]);
+
+        assertThat(kdTree.nearest(USER_LATITUDE, USER_LONGITUDE, 10, null, null)).isEmpty();
+        assertThat(new RestaurantKdTree(new long[]{1}, new double[]{37.5}, new double[]{127.0})
+                .nearest(USER_LATITUDE, USER_LONGITUDE, 0, null, null)).isEmpty();
+    }
+
+    private static void randomPoints(long[] ids, double[] latitudes, double[] longitudes) {
+        Random random = new Random(42);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            latitudes[i] = 37.3 + random.nextDouble() * 0.5;
+            longitudes[i] = 126.7 + random.nextDouble() * 0.6;
+        }
+    }
+
+    private static List<Integer> sortedByDistance(double[] latitudes, double[] longitudes) {
+        return IntStream.range(0, latitudes.length).boxed()
+                .sorted(Comparator.comparingDouble(index -> haversine(latitudes[index], longitudes[index])))
+                .toList();
+    }
+
+    private static double haversine(double latitude, double longitude) {
+        double dLatitude = Math.toRadians(latitude - USER_LATITUDE);
+        double dLongitude = Math.toRadians(longitude - USER_LONGITUDE);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(USER_LATITUDE)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return GeoDistanceCalculator.EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,115 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.Address;
+import com.beginvegan.domain.restaurant.domain.Menu;
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import com.beginvegan.domain.restaurant.domain.repository.MenuRepository;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RestaurantSearchIndexTest {
+
+    private static final double USER_LATITUDE = 37.4979;
+    private static final double USER_LONGITUDE = 127.0276;
+
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private RestaurantSearchQueryParser restaurantSearchQueryParser;
+    private RestaurantSearchIndex restaurantSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        restaurantSearchQueryParser = new RestaurantSearchQueryParser();
+        ReflectionTestUtils.setField(restaurantSearchQueryParser, "synonyms", List.of("커피=CAFE"));
+        restaurantSearchQueryParser.init();
+        restaurantSearchIndex = new RestaurantSearchIndex(restaurantRepository, menuRepository, restaurantSearchQueryParser, new RestaurantSuggestIndex());
+
+        List<Restaurant> restaurants = List.of(
+                restaurant(1L, "그린테이블 강남점", RestaurantType.WESTERN, "서울특별시", "강남구", 37.4980, 127.0277, "비건 파스타", "샐러드"),
+                restaurant(2L, "채식식당", RestaurantType.KOR, "서울특별시", "마포구", 37.5563, 126.9220, "비건 비빔밥"),
+                restaurant(3L, "빈스 카페", RestaurantType.CAFE, "서울특별시", "강남구", 37.5000, 127.0300, "오트 라떼"),
+                restaurant(4L, "플랜트", RestaurantType.CAFE, "부산광역시", "해운대구", 35.1631, 129.1635, "비건 케이크"));
+        when(restaurantRepository.findAllWithMenus()).thenReturn(restaurants);
+        when(restaurantRepository.findAllCounts()).thenReturn(List.of(
+                counts(1L, 5, 1), counts(2L, 20, 0), counts(3L, 1, 30), counts(4L, 10, 2)));
+        restaurantSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("검색어를 이름 / 메뉴에 포함한 식당만 조회하고, 리뷰 수 순으로 정렬한다")
+    void keywordSearchOrderedByReviewCount() {
+        assertThat(search("비건", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(2L, 4L, 1L);
+        assertThat(search("비건", RestaurantSearchIndex.SearchOrder.SCRAP)).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("거리순은 유저 위치에서 가까운 순")
+    void distanceOrder() {
+        assertThat(search("비건", RestaurantSearchIndex.SearchOrder.DISTANCE)).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("카테고리 / 지역 검색어는 필터로 적용한다")
+    void categoryAndRegionFilters() {
+        assertThat(search("카페", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(4L, 3L);
+        assertThat(search("커피", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(4L, 3L);
+        assertThat(search("강남 카페", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(3L);
+        assertThat(search("강남구", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("토큰은 모두 있지만 연속된 문자열이 아니면 제외한다")
+    void bigramCandidatesAreVerified() {
+        // '비건'과 '라떼'의 토큰은 모두 있지만 '건라'는 어디에도 없음
+        assertThat(search("비건라떼", RestaurantSearchIndex.SearchOrder.REVIEW)).isEmpty();
+        assertThat(search("라떼", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(3L);
+        assertThat(search("샐", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("식당 변경 / 삭제가 바로 반영된다")
+    void putAndRemove() {
+        restaurantSearchIndex.put(restaurant(2L, "채식식당", RestaurantType.KOR, "서울특별시", "마포구", 37.5563, 126.9220, "두부 김밥"));
+        assertThat(search("비건", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(4L, 1L);
+        assertThat(search("김밥", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(2L);
+
+        restaurantSearchIndex.remove(4L);
+        assertThat(search("비건", RestaurantSearchIndex.SearchOrder.REVIEW)).containsExactly(1L);
+        assertThat(restaurantSearchIndex.size()).isEqualTo(3);
+    }
+
+    private List<Long> search(String searchWord, RestaurantSearchIndex.SearchOrder searchOrder) {
+        return restaurantSearchIndex.search(restaurantSearchQueryParser.parse(searchWord), searchOrder, USER_LATITUDE, USER_LONGITUDE);
+    }
+
+    private static Restaurant restaurant(Long id, String name, RestaurantType restaurantType, String province, String city,
+                                         double latitude, double longitude, String... menuNames) {
+        List<Menu> menus = new ArrayList<>();
+        Arrays.stream(menuNames).forEach(menuName -> menus.add(Menu.builder().name(menuName).build()));
+        return Restaurant.builder()
+                .id(id)
+                .name(name)
+                .restaurantType(restaurantType)
+                .address(new Address(province, city, "테헤란로", null))
+                .latitude(latitude)
+                .longitude(longitude)
+                .menus(menus)
+                .build();
+    }
+
+    private static Object[] counts(Long restaurantId, int reviewCount, int bookmarkCount) {
+        return new Object[] {restaurantId, reviewCount, bookmarkCount};
+    }
+}
@@ -0,0 +1,82 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.RestaurantType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSearchQueryParserTest {
+
+    private RestaurantSearchQueryParser restaurantSearchQueryParser;
+
+    @BeforeEach
+    void setUp() {
+        restaurantSearchQueryParser = new RestaurantSearchQueryParser();
+        ReflectionTestUtils.setField(restaurantSearchQueryParser, "synonyms", List.of("커피=CAFE", "커피숍=CAFE", "중국집=CHINESE", "invalid", "빵=UNKNOWN"));
+        restaurantSearchQueryParser.init();
+        restaurantSearchQueryParser.updateRegions(List.of("서울특별시", "강남구"));
+    }
+
+    @Test
+    @DisplayName("카테고리 / 지역을 필터로 분리하고 남은 단어는 검색어로 사용한다")
+    void splitsCategoryRegionAndKeywords() {
+        RestaurantSearchQuery query = restaurantSearchQueryParser.parse("강남 한식 비건 맛집");
+
+        assertThat(query.restaurantTypes()).containsExactly(RestaurantType.KOR);
+        assertThat(query.regions()).containsExactly("강남구");
+        assertThat(query.keywords()).containsExactly("비건", "맛집");
+    }
+
+    @Test
+    @DisplayName("한글 사전 단어는 붙어 있어도 매칭하고, 남은 한 글자는 버린다")
+    void koreanTermsMatchInsideWords() {
+        RestaurantSearchQuery query = restaurantSearchQueryParser.parse("서울한식당");
+
+        assertThat(query.restaurantTypes()).containsExactly(RestaurantType.KOR);
+        assertThat(query.regions()).containsExactly("서울특별시");
+        assertThat(query.keywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("겹치는 사전 단어는 가장 긴 단어를 사용한다")
+    void longestMatchWins() {
+        RestaurantSearchQuery query = restaurantSearchQueryParser.parse("커피숍 중국집");
+
+        assertThat(query.restaurantTypes()).containsExactlyInAnyOrder(RestaurantType.CAFE, RestaurantType.CHINESE);
+        assertThat(query.keywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문 사전 단어는 단어 경계에서만 매칭한다")
+    void asciiTermsRequireWordBoundaries() {
+        assertThat(restaurantSearchQueryParser.parse("sketch").restaurantTypes()).isEmpty();
+        assertThat(restaurantSearchQueryParser.parse("sketch").keywords()).containsExactly("sketch");
+        assertThat(restaurantSearchQueryParser.parse("cafeteria").restaurantTypes()).isEmpty();
+        assertThat(restaurantSearchQueryParser.parse("pancafe").restaurantTypes()).isEmpty();
+
+        RestaurantSearchQuery query = restaurantSearchQueryParser.parse("CAFE, etc");
+        assertThat(query.restaurantTypes()).containsExactlyInAnyOrder(RestaurantType.CAFE, RestaurantType.ETC);
+        assertThat(query.keywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문 단어 뒤에 한글이 붙어도 경계로 본다")
+    void asciiTermFollowedByHangul() {
+        RestaurantSearchQuery query = restaurantSearchQueryParser.parse("cafe추천");
+
+        assertThat(query.restaurantTypes()).containsExactly(RestaurantType.CAFE);
+        assertThat(query.keywords()).containsExactly("추천");
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 빈 조건")
+    void blankSearchWord() {
+        assertThat(restaurantSearchQueryParser.parse(null).isEmpty()).isTrue();
+        assertThat(restaurantSearchQueryParser.parse("   ").isEmpty()).isTrue();
+    }
+}
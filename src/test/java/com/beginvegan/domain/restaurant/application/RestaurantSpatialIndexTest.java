@@ -0,0 +1,155 @@
+package com.beginvegan.domain.restaurant.application;
+
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.restaurant.domain.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RestaurantSpatialIndexTest {
+
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private RestaurantSpatialIndex restaurantSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        restaurantSpatialIndex = new RestaurantSpatialIndex(restaurantRepository, eventPublisher);
+        ReflectionTestUtils.setField(restaurantSpatialIndex, "cellSize", 0.05);
+    }
+
+    @Test
+    @DisplayName("반경 조회 결과는 전체 식당을 하버사인으로 계산한 결과와 같다")
+    void radiusQueryMatchesFullScan() {
+        Random random = new Random(42);
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            restaurants.add(restaurant(id, 37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6));
+        }
+        when(restaurantRepository.findAll()).thenReturn(restaurants);
+        restaurantSpatialIndex.rebuild();
+
+        for (int i = 0; i < 20; i++) {
+            double userLatitude = 37.3 + random.nextDouble() * 0.5;
+            double userLongitude = 126.7 + random.nextDouble() * 0.6;
+            for (double radiusKm : new double[]{5, 10}) {
+                List<Long> expected = restaurants.stream()
+                        .filter(restaurant -> haversine(userLatitude, userLongitude, restaurant.getLatitude(), restaurant.getLongitude()) <= radiusKm - 0.01)
+                        .map(Restaurant::getId)
+                        .toList();
+                List<Long> actual = restaurantSpatialIndex.findIdsWithinRadius(userLatitude, userLongitude, radiusKm);
+                // 근사 계산 오차 범위(10m) 안쪽의 식당은 모두 포함되어야 하고, 바깥쪽 식당은 포함되지 않아야 함
+                assertThat(actual).containsAll(expected);
+                assertThat(actual).allSatisfy(id -> {
+                    Restaurant restaurant = restaurants.get((int) (id - 1));
+                    assertThat(haversine(userLatitude, userLongitude, restaurant.getLatitude(), restaurant.getLongitude())).isLessThanOrEqualTo(radiusKm + 0.01);
+                });
+                assertThat(actual).isSorted();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 식당은 색인하지 않고, 갱신 시 변경분만 반영한다")
+    void refreshAppliesModifiedRestaurants() {
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant(1L, 37.5, 127.0), restaurant(2L, null, null)));
+        restaurantSpatialIndex.rebuild();
+        assertThat(restaurantSpatialIndex.size()).isEqualTo(1);
+
+        when(restaurantRepository.findIdsWithCoordinates()).thenReturn(List.of(1L));
+        when(restaurantRepository.findByModifiedDateAfter(any())).thenReturn(List.of(restaurant(1L, 37.51, 127.0)));
+        restaurantSpatialIndex.refresh();
+
+        verify(restaurantRepository, times(1)).findAll();
+        assertThat(restaurantSpatialIndex.findIdsWithinRadius(37.51, 127.0, 0.1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("같은 주기에 식당이 삭제되고 추가되어 개수가 같아도 삭제된 식당은 제거된다")
+    void refreshRemovesDeletedRestaurantEvenIfCountIsUnchanged() {
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant(1L, 37.5, 127.0), restaurant(2L, 37.5, 127.001)));
+        restaurantSpatialIndex.rebuild();
+
+        // 2번 삭제, 3번 추가
+        when(restaurantRepository.findByModifiedDateAfter(any())).thenReturn(List.of(restaurant(3L, 37.5, 127.002)));
+        when(restaurantRepository.findIdsWithCoordinates()).thenReturn(List.of(1L, 3L));
+        restaurantSpatialIndex.refresh();
+
+        assertThat(restaurantSpatialIndex.size()).isEqualTo(2);
+        assertThat(restaurantSpatialIndex.findIdsWithinRadius(37.5, 127.0, 1)).containsExactly(1L, 3L);
+        verify(restaurantRepository, times(1)).findAll();
+        // 타일 / 샘플 캐시가 정리되도록 삭제 이벤트 발행
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof RestaurantLocationChangedEvent changed
+                && changed.current() == null && changed.previous().id().equals(2L)));
+    }
+
+    @Test
+    @DisplayName("좌표가 지워진 식당은 인덱스에서 제거된다")
+    void putWithoutCoordinatesRemoves() {
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant(1L, 37.5, 127.0)));
+        restaurantSpatialIndex.rebuild();
+
+        restaurantSpatialIndex.put(restaurant(1L, null, null));
+
+        assertThat(restaurantSpatialIndex.size()).isZero();
+        assertThat(restaurantSpatialIndex.findIdsWithinRadius(37.5, 127.0, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재인덱싱 중에도 조회에는 비거나 일부만 찬 인덱스가 보이지 않는다")
+    void rebuildNeverExposesPartialIndex() throws InterruptedException {
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            restaurants.add(restaurant(id, 37.5 + id * 0.00001, 127.0));
+        }
+        when(restaurantRepository.findAll()).thenReturn(restaurants);
+        restaurantSpatialIndex.rebuild();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger partialReads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            started.countDown();
+            while (running.get()) {
+                if (restaurantSpatialIndex.findIdsWithinRadius(37.51, 127.0, 5).size() != restaurants.size()) {
+                    partialReads.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        started.await();
+        for (int i = 0; i < 20; i++) {
+            restaurantSpatialIndex.rebuild();
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(partialReads).hasValue(0);
+    }
+
+    private static Restaurant restaurant(Long id, Double latitude, Double longitude) {
+        return Restaurant.builder().id(id).name("식당" + id).latitude(latitude).longitude(longitude).build();
+    }
+
+    private static double haversine(double userLatitude, double userLongitude, double latitude, double longitude) {
+        double dLatitude = Math.toRadians(latitude - userLatitude);
+        double dLongitude = Math.toRadians(longitude - userLongitude);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(userLatitude)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return GeoDistanceCalculator.EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
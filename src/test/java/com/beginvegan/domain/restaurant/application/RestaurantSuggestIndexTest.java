@@ -0,0 +1,113 @@
+package com.beginvegan.domain.restaurant.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSuggestIndexTest {
+
+    private RestaurantSuggestIndex restaurantSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        restaurantSuggestIndex = new RestaurantSuggestIndex();
+        restaurantSuggestIndex.rebuild(List.of(
+                new RestaurantSuggestIndex.Source(1L, "그린테이블 강남점", List.of("비건 파스타", "샐러드"), List.of("서울특별시", "강남구"), 5),
+                new RestaurantSuggestIndex.Source(2L, "그린 카페", List.of("비건 파스타"), List.of("서울특별시", "마포구"), 20),
+                new RestaurantSuggestIndex.Source(3L, "Green Bowl", List.of("Salad"), List.of("서울특별시", "강남구"), 1)));
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 식당 / 메뉴 / 지역을 리뷰 수 내림차순으로 조회한다")
+    void suggestsByPrefixOrderedByReviewCount() {
+        assertThat(texts("그린")).containsExactly("그린 카페", "그린테이블 강남점");
+        assertThat(texts("서울")).containsExactly("서울특별시");
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치로도 조회된다")
+    void matchesWordStarts() {
+        assertThat(texts("강남")).containsExactly("강남구", "그린테이블 강남점");
+        assertThat(texts("파스")).containsExactly("비건 파스타");
+        // 단어 중간부터는 조회되지 않음
+        assertThat(texts("린테이블")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 메뉴 / 지역은 하나로 묶고 식당들의 리뷰 수를 합산한다")
+    void aggregatesMenuAndRegionCounts() {
+        List<RestaurantSuggestIndex.Suggestion> suggestions = restaurantSuggestIndex.suggest("비건 파스타", 10);
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).suggestionType()).isEqualTo(RestaurantSuggestIndex.SuggestionType.MENU);
+        assertThat(suggestions.get(0).reviewCount()).isEqualTo(25);
+        assertThat(restaurantSuggestIndex.suggest("서울특별시", 10).get(0).reviewCount()).isEqualTo(26);
+    }
+
+    @Test
+    @DisplayName("대소문자 / 공백과 관계없이 조회된다")
+    void ignoresCaseAndWhitespace() {
+        assertThat(texts("greenb")).containsExactly("Green Bowl");
+        assertThat(texts("GREEN BO")).containsExactly("Green Bowl");
+        assertThat(texts("그린테이블강남")).containsExactly("그린테이블 강남점");
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성으로 조회된다")
+    void suggestsByChosung() {
+        assertThat(texts("ㄱㄹ")).containsExactly("그린 카페", "그린테이블 강남점");
+        assertThat(texts("ㄱㄴ")).containsExactly("강남구", "그린테이블 강남점");
+        assertThat(texts("ㅅㄹㄷ")).containsExactly("샐러드");
+        assertThat(texts("ㅂㄱ ㅍ")).containsExactly("비건 파스타");
+    }
+
+    @Test
+    @DisplayName("요청 개수만큼만 반환하고, 빈 접두어나 없는 접두어는 빈 목록")
+    void sizeAndMissingPrefix() {
+        assertThat(restaurantSuggestIndex.suggest("그린", 1)).extracting(RestaurantSuggestIndex.Suggestion::text).containsExactly("그린 카페");
+        assertThat(restaurantSuggestIndex.suggest("", 10)).isEmpty();
+        assertThat(restaurantSuggestIndex.suggest(null, 10)).isEmpty();
+        assertThat(restaurantSuggestIndex.suggest("없는식당", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드마다 미리 계산한 상위 목록은 전체를 정렬한 결과와 같다")
+    void precomputedTopMatchesFullSort() {
+        Random random = new Random(42);
+        String[] syllables = {"가", "나", "다", "라", "마", "바", "사"};
+        List<RestaurantSuggestIndex.Source> sources = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 3 + random.nextInt(3); i++) {
+                name.append(syllables[random.nextInt(syllables.length)]);
+            }
+            sources.add(new RestaurantSuggestIndex.Source(id, name.toString(), List.of(), List.of(), random.nextInt(1000)));
+        }
+        restaurantSuggestIndex.rebuild(sources);
+
+        for (String prefix : List.of("가", "가나", "다라마", "사사", "바가다")) {
+            List<RestaurantSuggestIndex.Suggestion> expected = sources.stream()
+                    .filter(source -> source.name().startsWith(prefix))
+                    .map(source -> new RestaurantSuggestIndex.Suggestion(source.name(), RestaurantSuggestIndex.SuggestionType.RESTAURANT, source.restaurantId(), source.reviewCount()))
+                    .sorted(Comparator.comparingLong(RestaurantSuggestIndex.Suggestion::reviewCount).reversed()
+                            .thenComparing(RestaurantSuggestIndex.Suggestion::text))
+                    .limit(RestaurantSuggestIndex.MAX_SUGGESTIONS)
+                    .toList();
+
+            assertThat(restaurantSuggestIndex.suggest(prefix, RestaurantSuggestIndex.MAX_SUGGESTIONS))
+                    .extracting(RestaurantSuggestIndex.Suggestion::reviewCount)
+                    .containsExactlyElementsOf(expected.stream().map(RestaurantSuggestIndex.Suggestion::reviewCount).toList());
+        }
+    }
+
+    private List<String> texts(String prefix) {
+        return restaurantSuggestIndex.suggest(prefix, 10).stream().map(RestaurantSuggestIndex.Suggestion::text).toList();
+    }
+}
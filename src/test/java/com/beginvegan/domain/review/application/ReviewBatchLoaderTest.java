@@ -0,0 +1,132 @@
+package com.beginvegan.domain.review.application;
+
+import com.beginvegan.domain.image.domain.Image;
+import com.beginvegan.domain.recommendation.domain.Recommendation;
+import com.beginvegan.domain.restaurant.domain.Restaurant;
+import com.beginvegan.domain.review.domain.Review;
+import com.beginvegan.domain.review.domain.ReviewType;
+import com.beginvegan.domain.review.domain.repository.ReviewRepository;
+import com.beginvegan.domain.user.domain.Role;
+import com.beginvegan.domain.user.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Description : 리뷰 목록 배치 조회의 쿼리 수가 리뷰 수와 무관하게 일정한지 Hibernate 통계로 확인
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-batch;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReviewBatchLoaderTest {
+
+    @Autowired
+    private ReviewBatchLoader reviewBatchLoader;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("리뷰 수가 늘어나도 작성자 / 이미지 / 추천 여부 조회 쿼리 수는 같다")
+    void statementCountIsConstant() {
+        long fewReviews = countStatements(2);
+        long manyReviews = countStatements(10);
+
+        assertThat(manyReviews).isEqualTo(fewReviews);
+        // 작성자 IN 조회, 이미지 IN 조회, 추천 IN 조회
+        assertThat(manyReviews).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 조회 결과에 리뷰별 이미지와 조회 유저의 추천 여부가 담긴다")
+    void loadsImagesAndRecommendations() {
+        Fixture fixture = persist(3);
+        List<Review> reviews = reviewRepository.findAllById(fixture.reviewIds());
+
+        ReviewBatchLoader.ReviewBatch batch = reviewBatchLoader.load(fixture.viewer(), reviews);
+
+        for (Review review : reviews) {
+            assertThat(batch.imagesOf(review)).hasSize(2);
+            // 짝수 번째 리뷰만 추천
+            assertThat(batch.isRecommendedBy(review)).isEqualTo(fixture.recommendedIds().contains(review.getId()));
+        }
+    }
+
+    private long countStatements(int reviewCount) {
+        Fixture fixture = persist(reviewCount);
+        List<Review> reviews = reviewRepository.findAllById(fixture.reviewIds());
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ReviewBatchLoader.ReviewBatch batch = reviewBatchLoader.load(fixture.viewer(), reviews);
+        // 응답을 만들 때처럼 작성자 / 이미지 / 추천 여부를 모두 사용
+        for (Review review : reviews) {
+            review.getUser().getNickname();
+            batch.imagesOf(review).forEach(Image::getImageUrl);
+            batch.isRecommendedBy(review);
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Fixture persist(int reviewCount) {
+        User viewer = persistUser("viewer");
+        Restaurant restaurant = Restaurant.builder().name("식당").latitude(37.5).longitude(127.0).build();
+        entityManager.persist(restaurant);
+
+        List<Long> reviewIds = new ArrayList<>();
+        List<Long> recommendedIds = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            User writer = persistUser("writer" + i);
+            Review review = Review.builder().content("리뷰 " + i).restaurant(restaurant).user(writer).rate(4.0).reviewType(ReviewType.PHOTO).build();
+            entityManager.persist(review);
+            entityManager.persist(Image.builder().review(review).imageUrl("image" + i + "-1").build());
+            entityManager.persist(Image.builder().review(review).imageUrl("image" + i + "-2").build());
+            if (i % 2 == 0) {
+                entityManager.persist(Recommendation.builder().user(viewer).review(review).build());
+                recommendedIds.add(review.getId());
+            }
+            reviewIds.add(review.getId());
+        }
+        // 작성자가 영속성 컨텍스트에 없는 상태(목록 조회 직후)에서 시작
+        entityManager.flush();
+        entityManager.clear();
+        return new Fixture(viewer, reviewIds, recommendedIds);
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder().nickname(name).email(name + System.nanoTime() + "@test.com").role(Role.USER).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private record Fixture(User viewer, List<Long> reviewIds, List<Long> recommendedIds) {
+    }
+
+    // 메인 애플리케이션 설정은 배포 환경의 설정 파일(s3, database, oauth2)을 요구하므로 JPA 설정만 따로 구성
+    @SpringBootConfiguration
+    @EnableJpaAuditing
+    @EntityScan("com.beginvegan.domain")
+    @EnableJpaRepositories("com.beginvegan.domain")
+    @Import(ReviewBatchLoader.class)
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,63 @@
+package com.beginvegan.global.config.security.token;
+
+import com.beginvegan.domain.auth.application.CustomTokenProviderService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CustomOncePerRequestFilterTest {
+
+    private final CustomTokenProviderService customTokenProviderService = mock(CustomTokenProviderService.class);
+    private final CustomOncePerRequestFilter filter = new CustomOncePerRequestFilter();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청당 토큰을 한 번만 파싱하고, 검증된 claim으로 인증 정보를 만든다")
+    void parsesTokenOnce() throws Exception {
+        ReflectionTestUtils.setField(filter, "customTokenProviderService", customTokenProviderService);
+        Claims claims = mock(Claims.class);
+        UserPrincipal userPrincipal = UserPrincipal.create(1L, "vegan@test.com", "ROLE_USER");
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
+        when(customTokenProviderService.parseValidClaims("token")).thenReturn(claims);
+        when(customTokenProviderService.getAuthentication(claims)).thenReturn(authentication);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(customTokenProviderService, times(1)).parseValidClaims("token");
+        verify(customTokenProviderService, never()).validateToken(anyString());
+        verify(customTokenProviderService, never()).getUserIdFromToken(anyString());
+        verify(customTokenProviderService, never()).getAuthenticationById(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 인증 정보를 만들지 않는다")
+    void invalidTokenLeavesContextEmpty() throws Exception {
+        ReflectionTestUtils.setField(filter, "customTokenProviderService", customTokenProviderService);
+        when(customTokenProviderService.parseValidClaims("token")).thenReturn(null);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(customTokenProviderService, never()).getAuthentication(any(Claims.class));
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.beginvegan.global.payload;
+
+import com.beginvegan.global.error.DefaultException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 (일시, id)로 디코딩된다")
+    void roundTrip() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456000), 42L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초가 0인 일시도 그대로 디코딩된다")
+    void roundTripWithoutSeconds() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 12, 0), 7L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서는 URL에 그대로 쓸 수 있다")
+    void encodedCursorIsUrlSafe() {
+        String encoded = Cursor.of(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999999999), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 모든 행보다 뒤에 있는 첫 페이지 위치")
+    void emptyCursorIsFirstPage() {
+        Cursor first = Cursor.decode(null);
+
+        assertThat(Cursor.decode(" ")).isEqualTo(first);
+        assertThat(first.dateTime()).isAfter(LocalDateTime.now().plusYears(1000));
+        assertThat(first.id()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서는 INVALID_PARAMETER 예외")
+    void invalidCursorThrows() {
+        assertThatThrownBy(() -> Cursor.decode("%%%")).isInstanceOf(DefaultException.class);
+        assertThatThrownBy(() -> Cursor.decode(base64("not-a-date,1"))).isInstanceOf(DefaultException.class);
+        assertThatThrownBy(() -> Cursor.decode(base64("2024-03-01T12:00"))).isInstanceOf(DefaultException.class);
+        assertThatThrownBy(() -> Cursor.decode(base64("2024-03-01T12:00,abc"))).isInstanceOf(DefaultException.class);
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes());
+    }
+}